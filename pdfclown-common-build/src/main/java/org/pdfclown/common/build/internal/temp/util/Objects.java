@@ -61,7 +61,9 @@ import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -70,6 +72,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -150,6 +153,16 @@ public final class Objects {
     }
   }
 
+  /**
+   * {@link #superTypes(Class, HierarchicalTypeComparator, Set, boolean) superTypes(..)} criteria.
+   *
+   * @param stoppers
+   *          Stoppers among the ancestors of the type (other stoppers cannot affect its traversal).
+   */
+  @SuppressWarnings("rawtypes")
+  private record SuperTypesKey(Set<Class> stoppers, boolean stopperExclusive) {
+  }
+
   static class ProxySpace {
     /**
      * Proxy instances by source instance.
@@ -227,6 +240,35 @@ public final class Objects {
 
   private static final Map<ClassLoader, ProxySpace> proxySpaces = new WeakHashMap<>();
 
+  /**
+   * Type ancestors, unordered and unstopped.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final ClassValue<Class[]> ancestorTypes = new ClassValue<>() {
+    @Override
+    protected Class[] computeValue(Class<?> type) {
+      return collectSuperTypes(type, new HashSet<>(), Set.of(), false);
+    }
+  };
+
+  /**
+   * Memoized type ancestors.
+   * <p>
+   * Bound to their type via {@link ClassValue} (so they are discarded along with their class),
+   * then keyed by comparator (weakly, as comparators may refer to foreign types) and traversal
+   * criteria.
+   * </p>
+   */
+  @SuppressWarnings("rawtypes")
+  private static final ClassValue<Map<HierarchicalTypeComparator,
+      Map<SuperTypesKey, Class[]>>> memoizedSuperTypes = new ClassValue<>() {
+        @Override
+        protected Map<HierarchicalTypeComparator, Map<SuperTypesKey, Class[]>> computeValue(
+            Class<?> type) {
+          return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+      };
+
   private static final String TO_STRING_CLOSE = S + SQUARE_BRACKET_CLOSE;
   private static final String TO_STRING_OPEN = S + SQUARE_BRACKET_OPEN;
   private static final String TO_STRING_PROPERTY_SEPARATOR = S + EQUAL;
@@ -1335,6 +1377,14 @@ public final class Objects {
 
   /**
    * Gets type ancestors, ordered by a comparator.
+   * <p>
+   * Ancestors are collected and sorted once per type, comparator and stop criteria (only the
+   * stoppers among the ancestors of {@code type} are relevant), then memoized (for as long as both
+   * the type and the comparator are reachable); therefore, {@code comparator} MUST NOT change its
+   * ordering after its first use: comparators based on mutable criteria (such as
+   * {@link Comparators.HierarchicalTypeComparator.Priorities.TypePriorityComparator}) should be
+   * rebuilt on a snapshot of their criteria whenever they change.
+   * </p>
    *
    * @param type
    *          Type (either class or interface) whose ancestors are searched.
@@ -1348,21 +1398,22 @@ public final class Objects {
   @SuppressWarnings("rawtypes")
   public static Stream<Class> superTypes(Class type, HierarchicalTypeComparator comparator,
       Set<Class> stoppers, boolean stopperExclusive) {
-    var ret = new TreeSet<>(comparator);
-
-    // 1. Interfaces related to `type`.
-    for (var e : type.getInterfaces()) {
-      collectTypeAndAncestorInterfaces(e, ret, stoppers, stopperExclusive);
-    }
-
-    // 2. Ancestor concrete types and related interfaces.
-    Class superType = type;
-    //noinspection StatementWithEmptyBody
-    while ((superType = superType.getSuperclass()) != null
-        && collectTypeAndAncestorInterfaces(superType, ret, stoppers, stopperExclusive)) {
-      // NOP
+    Set<Class> typeStoppers;
+    if (stoppers.isEmpty()) {
+      typeStoppers = Set.of();
+    } else {
+      typeStoppers = new HashSet<>();
+      for (var e : ancestorTypes.get(type)) {
+        if (stoppers.contains(e)) {
+          typeStoppers.add(e);
+        }
+      }
     }
-    return ret.stream();
+    return Stream.of(memoizedSuperTypes.get(type)
+        .computeIfAbsent(comparator, $ -> new ConcurrentHashMap<>())
+        .computeIfAbsent(new SuperTypesKey(typeStoppers, stopperExclusive),
+            $ -> collectSuperTypes(type, new TreeSet<>(comparator), $.stoppers(),
+                $.stopperExclusive())));
   }
 
   /**
@@ -2083,6 +2134,31 @@ public final class Objects {
     return type.isAssignableFrom(xbaseType);
   }
 
+  /**
+   * Collects type ancestors.
+   *
+   * @param ret
+   *          Target set (its iteration order determines the order of the returned ancestors).
+   * @see #superTypes(Class, HierarchicalTypeComparator, Set, boolean)
+   */
+  @SuppressWarnings("rawtypes")
+  private static Class[] collectSuperTypes(Class type, Set<Class> ret, Set<Class> stoppers,
+      boolean stopperExclusive) {
+    // 1. Interfaces related to `type`.
+    for (var e : type.getInterfaces()) {
+      collectTypeAndAncestorInterfaces(e, ret, stoppers, stopperExclusive);
+    }
+
+    // 2. Ancestor concrete types and related interfaces.
+    Class superType = type;
+    //noinspection StatementWithEmptyBody
+    while ((superType = superType.getSuperclass()) != null
+        && collectTypeAndAncestorInterfaces(superType, ret, stoppers, stopperExclusive)) {
+      // NOP
+    }
+    return ret.toArray(new Class[0]);
+  }
+
   /**
    * Recursively collects a type and its interfaces until stopped.
    * <p>
@@ -13,14 +13,20 @@
 package org.pdfclown.common.build.internal.temp.util.collect;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import static org.pdfclown.common.build.internal.temp.util.Conditions.requireAtLeast;
 import static org.pdfclown.common.build.internal.temp.util.Exceptions.runtime;
 import static org.pdfclown.common.build.internal.temp.util.Objects.sqn;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -40,6 +46,20 @@ import org.slf4j.LoggerFactory;
  * Keys {@linkplain #put(Object, Object) explicitly defined} by users are <b>root keys</b>, whilst
  * <b>dynamic keys</b> are associated to the respective root keys through a chain of parent keys.
  * </p>
+ * <p>
+ * Unresolvable keys are remembered (up to a bounded number), so repeated misses do not traverse
+ * their related keys again until a user-defined entry is added or removed (which may make them
+ * resolvable); lookup outcomes are counted in {@link #getStats() stats}.
+ * </p>
+ * <p>
+ * By default, dynamic entries are retained as long as the map, like user-defined ones. In case of
+ * volatile keys (for example, classes from short-lived class loaders), dynamic entries can be
+ * either {@linkplain #DynamicMap(DynamicProvider, boolean) weakly keyed} or
+ * {@linkplain #DynamicMap(DynamicProvider, int) capped}: they are then kept apart from the
+ * user-defined entries, so they are not part of the map views ({@link #keySet()},
+ * {@link #entrySet()}, etc.) and are not counted by {@link #size()}; user-defined entries are
+ * always strongly retained.
+ * </p>
  *
  * @param <K>
  *          Key type.
@@ -74,13 +94,107 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
     }
   }
 
+  /**
+   * Lookup statistics.
+   *
+   * @param hitCount
+   *          Number of lookups matching an existing entry (either explicit or dynamic).
+   * @param implicitHitCount
+   *          Number of lookups resolved through a related key (causing a new dynamic entry).
+   * @param missCount
+   *          Number of lookups matching no entry (either resolved or remembered as unresolvable).
+   * @author Stefano Chizzolini
+   */
+  public record Stats(long hitCount, long implicitHitCount, long missCount) {
+  }
+
+  /**
+   * Dynamic entry kept apart from the user-defined ones.
+   */
+  private record Derivation<K, V>(V value, K parentKey, K rootKey) {
+  }
+
   private static final Logger log = LoggerFactory.getLogger(DynamicMap.class);
 
+  /**
+   * Maximum number of remembered unresolvable keys, unless dynamic entries are capped.
+   */
+  private static final int MISSING_KEYS__CAPACITY = 1024;
+
+  private static <K, V> Map<K, Derivation<K, V>> newLruMap(int capacity) {
+    return new LinkedHashMap<>(16, .75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Derivation<K, V>> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  private static <K> Set<K> newWeakSet() {
+    return Collections.newSetFromMap(new WeakHashMap<>());
+  }
+
+  /**
+   * Maximum number of dynamic entries ({@code 0}, if unbounded).
+   */
+  private final int dynamicCapacity;
+  /**
+   * Dynamic entries, if kept apart from the user-defined ones (that is, weakly keyed or capped).
+   */
+  private @Nullable Map<K, Derivation<K, V>> dynamicEntries;
+  private long hitCount;
+  private long implicitHitCount;
+  private long missCount;
+  /**
+   * Keys whose resolution failed since the last change of user-defined entries (negative cache).
+   */
+  private Set<K> missingKeys;
   private HashMap<K, K> parentKeys = new HashMap<>();
   private DynamicProvider<K> relatedKeysProvider;
 
   public DynamicMap(DynamicProvider<K> relatedKeysProvider) {
     this.relatedKeysProvider = requireNonNull(relatedKeysProvider, "`relatedKeysProvider`");
+    dynamicCapacity = 0;
+    missingKeys = new HashSet<>();
+  }
+
+  /**
+   * Creates a map whose dynamic entries are weakly keyed, if requested.
+   *
+   * @param weak
+   *          Whether dynamic entries are discarded as soon as their keys are no longer strongly
+   *          reachable outside this map (like {@link WeakHashMap}).
+   */
+  public DynamicMap(DynamicProvider<K> relatedKeysProvider, boolean weak) {
+    this(relatedKeysProvider);
+
+    if (weak) {
+      dynamicEntries = new WeakHashMap<>();
+      missingKeys = newWeakSet();
+    }
+  }
+
+  /**
+   * Creates a map whose dynamic entries are capped.
+   *
+   * @param dynamicCapacity
+   *          Maximum number of dynamic entries: beyond it, the least-recently-used dynamic entries
+   *          are discarded (they are resolved again on next {@linkplain #get(Object) request}).
+   */
+  public DynamicMap(DynamicProvider<K> relatedKeysProvider, int dynamicCapacity) {
+    this.relatedKeysProvider = requireNonNull(relatedKeysProvider, "`relatedKeysProvider`");
+    this.dynamicCapacity = requireAtLeast(dynamicCapacity, 1, "dynamicCapacity");
+    dynamicEntries = newLruMap(dynamicCapacity);
+    missingKeys = new HashSet<>();
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    missingKeys.clear();
+    if (dynamicEntries != null) {
+      dynamicEntries.clear();
+    }
   }
 
   @Override
@@ -88,11 +202,37 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
     var ret = (DynamicMap<K, V>) super.clone();
     {
       ret.relatedKeysProvider = ret.relatedKeysProvider.clone();
+      if (dynamicEntries instanceof WeakHashMap<K, Derivation<K, V>> weakEntries) {
+        ret.dynamicEntries = new WeakHashMap<>(weakEntries);
+        Set<K> weakMissingKeys = newWeakSet();
+        weakMissingKeys.addAll(missingKeys);
+        ret.missingKeys = weakMissingKeys;
+      } else {
+        if (dynamicEntries != null) {
+          Map<K, Derivation<K, V>> lruEntries = newLruMap(dynamicCapacity);
+          lruEntries.putAll(dynamicEntries);
+          ret.dynamicEntries = lruEntries;
+        }
+        ret.missingKeys = new HashSet<>(missingKeys);
+      }
       ret.parentKeys = new HashMap<>(ret.parentKeys);
     }
     return ret;
   }
 
+  @Override
+  public @Nullable V compute(K key,
+      BiFunction<? super K, ? super @Nullable V, ? extends @Nullable V> remappingFunction) {
+    prepareUserEntry(key);
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    prepareUserEntry(key);
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
   @Override
   public boolean containsKey(Object key) {
     return get(key) != null;
@@ -107,8 +247,12 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
    */
   @Override
   public @Nullable V get(@Nullable Object key) {
-    V ret = super.get(key);
-    if (ret == null && key != null) {
+    V ret = getExisting(key);
+    if (ret != null) {
+      hitCount++;
+    } else if (key == null || missingKeys.contains(key)) {
+      missCount++;
+    } else {
       final var k = (K) key;
 
       if (log.isTraceEnabled()) {
@@ -125,16 +269,24 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
         }
 
         // Implicit mapping found?
-        if ((ret = super.get(relatedKey)) != null) {
+        if ((ret = getExisting(relatedKey)) != null) {
           if (log.isTraceEnabled()) {
             log.trace("Related key MATCH for {}: {}", sqn(k), sqn(relatedKey));
           }
 
           // Make explicit the existing implicit mapping!
           putDynamic(k, ret, relatedKey);
-          break;
+          implicitHitCount++;
+          return ret;
         }
       }
+
+      // Remember the miss!
+      if (missingKeys.size() >= (dynamicCapacity > 0 ? dynamicCapacity : MISSING_KEYS__CAPACITY)) {
+        missingKeys.clear();
+      }
+      missingKeys.add(k);
+      missCount++;
     }
     return ret;
   }
@@ -151,6 +303,10 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
    * @return {@code null}, if {@code key} is root or missing.
    */
   public @Nullable K getParentKey(K key) {
+    if (dynamicEntries != null) {
+      var derivation = dynamicEntries.get(key);
+      return derivation != null ? derivation.parentKey() : null;
+    }
     return parentKeys.get(key);
   }
 
@@ -167,6 +323,12 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
    *         </ul>
    */
   public @Nullable K getRootKey(K key) {
+    if (dynamicEntries != null) {
+      var derivation = dynamicEntries.get(key);
+      if (derivation != null)
+        return derivation.rootKey();
+    }
+
     var parent = parentKeys.get(key);
     if (parent == null)
       // `key` is root itself?
@@ -182,6 +344,26 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
     }
   }
 
+  /**
+   * Gets the lookup statistics.
+   */
+  public Stats getStats() {
+    return new Stats(hitCount, implicitHitCount, missCount);
+  }
+
+  @Override
+  public @Nullable V merge(K key, V value,
+      BiFunction<? super V, ? super V, ? extends @Nullable V> remappingFunction) {
+    prepareUserEntry(key);
+    return super.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public @Nullable V put(K key, V value) {
+    prepareUserEntry(key);
+    return super.put(key, value);
+  }
+
   @Override
   public final void putAll(Map<? extends K, ? extends V> m) {
     for (var entry : m.entrySet()) {
@@ -189,6 +371,30 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
     }
   }
 
+  @Override
+  public @Nullable V putIfAbsent(K key, V value) {
+    prepareUserEntry(key);
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public @Nullable V remove(@Nullable Object key) {
+    missingKeys.clear();
+    if (dynamicEntries != null) {
+      var derivation = dynamicEntries.remove(key);
+      if (derivation != null)
+        return derivation.value();
+    }
+    return super.remove(key);
+  }
+
+  /**
+   * Resets the lookup statistics.
+   */
+  public void resetStats() {
+    hitCount = implicitHitCount = missCount = 0;
+  }
+
   /**
    * Root keys.
    */
@@ -215,16 +421,53 @@ public class DynamicMap<K, V> extends HashMap<K, V> {
    * @param parentKey
    *          Key whose mapping is reused by {@code key}.
    * @implNote This method purposely delegates to the super implementation of
-   *           {@link #put(Object, Object)} in order to keep user-defined mappings apart from
-   *           dynamically derived ones.
+   *           {@link #put(Object, Object)} (unless dynamic entries are weakly keyed or capped) in
+   *           order to keep user-defined mappings apart from dynamically derived ones.
    */
   protected void putDynamic(K key, V value, K parentKey) {
-    parentKeys.put(key, parentKey);
+    /*
+     * NOTE: Remembered misses are kept, as a dynamic entry merely replicates an existing mapping:
+     * if it were reachable from a remembered miss, so would be its parent.
+     */
+    if (dynamicEntries != null) {
+      dynamicEntries.put(key, new Derivation<>(value, parentKey,
+          requireNonNullElse(getRootKey(parentKey), parentKey)));
+    } else {
+      parentKeys.put(key, parentKey);
 
-    super.put(key, value);
+      super.put(key, value);
+    }
 
     if (log.isDebugEnabled()) {
       log.debug("putDynamic: {} from {}", sqn(key), sqn(parentKey));
     }
   }
+
+  /**
+   * Gets the value of an existing entry (either user-defined or dynamic).
+   */
+  private @Nullable V getExisting(@Nullable Object key) {
+    V ret = super.get(key);
+    if (ret == null && dynamicEntries != null) {
+      var derivation = dynamicEntries.get(key);
+      if (derivation != null) {
+        ret = derivation.value();
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * Prepares the key for a user-defined mapping.
+   * <p>
+   * New entries may become related keys of remembered misses, and override any dynamic entry of the
+   * same key.
+   * </p>
+   */
+  private void prepareUserEntry(K key) {
+    missingKeys.clear();
+    if (dynamicEntries != null) {
+      dynamicEntries.remove(key);
+    }
+  }
 }
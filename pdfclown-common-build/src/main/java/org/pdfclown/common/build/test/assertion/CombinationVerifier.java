@@ -24,13 +24,20 @@
   - array parameters replaced with `java.util.List`
   - `options` parameter redefined as field
   - customizable formatters added
+  - parallel evaluation added
  */
 package org.pdfclown.common.build.test.assertion;
 
 import static org.approvaltests.combinations.CombinationsHelper.EMPTY_ENTRY;
+import static org.pdfclown.common.build.internal.temp.util.Conditions.requireAtLeast;
+import static org.pdfclown.common.build.test.assertion.Executions.await;
 
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.approvaltests.core.Options;
 import org.jspecify.annotations.Nullable;
 import org.lambda.actions.Action9;
@@ -52,6 +59,11 @@ import org.pdfclown.common.util.annot.Immutable;
 /**
  * Verifier for approval testing on input combinations (that is, Cartesian product of input
  * arguments).
+ * <p>
+ * Calls are evaluated sequentially, unless {@linkplain #withParallelism(int) parallelism} is set:
+ * in such case, they are evaluated concurrently, while their responses are reassembled in
+ * combination order, so the verified output is the same.
+ * </p>
  *
  * @author Stefano Chizzolini (adaptation to pdfclown-common-build and redesign)
  * @implNote This implementation provides more flexibility and a more modern API than the original
@@ -61,6 +73,20 @@ import org.pdfclown.common.util.annot.Immutable;
 public class CombinationVerifier extends CallVerifier {
   static final List<Object> EMPTY = List.of(EMPTY_ENTRY);
 
+  /**
+   * Maximum number of pending calls per worker, during parallel evaluation.
+   */
+  private static final int PARALLEL_WINDOW_FACTOR = 4;
+
+  private int parallelism = 1;
+
+  /**
+   * Maximum number of calls evaluated concurrently ({@code 1}, for sequential evaluation).
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
   // SourceName: verifyAllCombinations
   /**
    * Verifies the given call with its arguments.
@@ -201,6 +227,24 @@ public class CombinationVerifier extends CallVerifier {
     return (CombinationVerifier) super.withOutputFormatter(value);
   }
 
+  /**
+   * Sets {@link #getParallelism() parallelism}.
+   * <p>
+   * Parallel evaluation is appropriate for expensive, thread-safe calls only; responses are
+   * collected in combination order, with a bounded number of pending calls.
+   * </p>
+   *
+   * @param value
+   *          Maximum number of calls evaluated concurrently ({@code 1}, for sequential evaluation;
+   *          {@link Runtime#availableProcessors()} is a sensible choice otherwise).
+   * @return Clone of this verifier.
+   */
+  public CombinationVerifier withParallelism(int value) {
+    var ret = (CombinationVerifier) clone();
+    ret.parallelism = requireAtLeast(value, 1, "value");
+    return ret;
+  }
+
   // SourceName: CombinationsHelper.doForAllCombinations
   private <I1 extends @Nullable Object, I2 extends @Nullable Object, I3 extends @Nullable Object,
       I4 extends @Nullable Object, I5 extends @Nullable Object, I6 extends @Nullable Object,
@@ -238,12 +282,48 @@ public class CombinationVerifier extends CallVerifier {
           List<I1> inputs1, List<I2> inputs2, List<I3> inputs3, List<I4> inputs4, List<I5> inputs5,
           List<I6> inputs6, List<I7> inputs7, List<I8> inputs8, List<I9> inputs9) {
     var response = new StringBuilder();
-    doCombinations(inputs1, inputs2, inputs3, inputs4, inputs5, inputs6, inputs7, inputs8, inputs9,
-        (input1, input2, input3, input4, input5, input6, input7, input8, input9) -> response.append(
-            getResponse(() -> call.call(input1, input2, input3, input4, input5, input6, input7,
-                input8, input9), labels,
-                new @Nullable Object[] { input1, input2, input3, input4,
-                    input5, input6, input7, input8, input9 })));
+    if (parallelism == 1) {
+      doCombinations(inputs1, inputs2, inputs3, inputs4, inputs5, inputs6, inputs7, inputs8,
+          inputs9, (input1, input2, input3, input4, input5, input6, input7, input8,
+              input9) -> response.append(getResponse(() -> call.call(input1, input2, input3,
+                  input4, input5, input6, input7, input8, input9), labels,
+                  new @Nullable Object[] { input1, input2, input3, input4,
+                      input5, input6, input7, input8, input9 })));
+    } else {
+      var executor = Executors.newFixedThreadPool(parallelism, $ -> {
+        var ret = new Thread($, "combination-verifier");
+        ret.setDaemon(true);
+        return ret;
+      });
+      /*
+       * NOTE: Pending responses are queued in combination order; their number is bounded, so the
+       * evaluation never runs too far ahead of the response assembly.
+       */
+      var pendingResponses = new ArrayDeque<CompletableFuture<String>>();
+      int pendingMax = parallelism * PARALLEL_WINDOW_FACTOR;
+      try {
+        doCombinations(inputs1, inputs2, inputs3, inputs4, inputs5, inputs6, inputs7, inputs8,
+            inputs9, (input1, input2, input3, input4, input5, input6, input7, input8,
+                input9) -> {
+              if (pendingResponses.size() >= pendingMax) {
+                response.append(await(pendingResponses.remove(), RuntimeException.class));
+              }
+              Supplier<String> responseSupplier = () -> getResponse(() -> call.call(input1,
+                  input2, input3, input4, input5, input6, input7, input8, input9), labels,
+                  new @Nullable Object[] { input1, input2, input3, input4,
+                      input5, input6, input7, input8, input9 });
+              pendingResponses.add(CompletableFuture.supplyAsync(responseSupplier, executor));
+            });
+        while (!pendingResponses.isEmpty()) {
+          response.append(await(pendingResponses.remove(), RuntimeException.class));
+        }
+      } finally {
+        for (var pendingResponse : pendingResponses) {
+          pendingResponse.cancel(true);
+        }
+        executor.shutdownNow();
+      }
+    }
 
     verifyResponse(response.toString());
   }
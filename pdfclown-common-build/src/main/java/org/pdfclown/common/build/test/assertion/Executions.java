@@ -13,6 +13,8 @@
 package org.pdfclown.common.build.test.assertion;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.pdfclown.common.build.internal.temp.util.Exceptions.actual;
+import static org.pdfclown.common.build.internal.temp.util.Exceptions.runtime;
 import static org.pdfclown.common.build.internal.temp.util.Exceptions.wrongArg;
 import static org.pdfclown.common.build.internal.temp.util.Objects.nonNull;
 
@@ -20,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jspecify.annotations.Nullable;
@@ -30,6 +33,29 @@ import org.jspecify.annotations.Nullable;
  * @author Stefano Chizzolini
  */
 public final class Executions {
+  /**
+   * Waits for a task to complete, unwrapping its failure.
+   *
+   * @param <X>
+   *          Checked exception type rethrown as-is (any other checked exception is wrapped
+   *          {@linkplain org.pdfclown.common.build.internal.temp.util.Exceptions#runtime(Throwable)
+   *          into an unchecked one}).
+   */
+  static <T, X extends Exception> T await(CompletableFuture<T> future, Class<X> exceptionType)
+      throws X {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      Throwable cause = nonNull(actual(ex.getCause()));
+      if (exceptionType.isInstance(cause))
+        throw exceptionType.cast(cause);
+      else if (cause instanceof Error err)
+        throw err;
+      else
+        throw runtime(cause);
+    }
+  }
+
   /**
    * Synchronously executes tasks in parallel, canceling all of them in case an exception occurs.
    *
@@ -14,14 +14,17 @@ package org.pdfclown.common.build.test.assertion;
 
 import static java.lang.Math.cbrt;
 import static java.lang.Math.pow;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.exists;
-import static org.apache.commons.lang3.ArrayUtils.EMPTY_INT_ARRAY;
 import static org.pdfclown.common.build.internal.temp.util.ArgumentException.ARG_VALUE__OMITTED;
+import static org.pdfclown.common.build.internal.temp.util.Conditions.requireAtLeast;
 import static org.pdfclown.common.build.internal.temp.util.Conditions.requireWithinNormal;
 import static org.pdfclown.common.build.internal.temp.util.Exceptions.failedIO;
+import static org.pdfclown.common.build.internal.temp.util.Exceptions.runtime;
 import static org.pdfclown.common.build.internal.temp.util.Exceptions.wrongArg;
 import static org.pdfclown.common.build.internal.temp.util.Strings.EMPTY;
 import static org.pdfclown.common.build.internal.temp.util.Strings.S;
+import static org.pdfclown.common.build.test.assertion.Executions.await;
 import static org.pdfclown.common.util.Chars.COLON;
 import static org.pdfclown.common.util.Chars.DOT;
 import static org.pdfclown.common.util.Chars.SPACE;
@@ -30,10 +33,28 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
@@ -50,9 +71,10 @@ import org.jspecify.annotations.Nullable;
  * {@linkplain #diff(BufferedImage, BufferedImage) Comparison} between actual and expected pages is
  * performed in two stages: pixel-level {@linkplain #getSampleDiffer() Euclidean distance}
  * {@linkplain #getSampleDiffTolerance() thresholding} to spot raw differences, then cluster density
- * check to weed out noise due to isolated, random rendering artifacts. The resulting diff image is
- * saved to the same directory as the actual document, along with the corresponding page images for
- * manual evaluation. Expected page images are permanently stored as PNG files among test resources,
+ * check to weed out noise due to isolated, random rendering artifacts (identical regions are
+ * {@linkplain #isTilePrefilterEnabled() skipped upfront}). The resulting diff image is saved to
+ * the same directory as the actual document, along with the corresponding page images for manual
+ * evaluation. Expected page images are permanently stored as PNG files among test resources,
  * along with the corresponding expected document. An expected document and its expected page images
  * are updated only if enabled via {@value Asserter#SYSTEM_PROPERTY__UPDATE_EXPECTED} system
  * property.
@@ -139,17 +161,50 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
      * Slower than {@linkplain #YIQ YIQ-weighted perceptual distance}, but more accurate.
      * </p>
      *
+     * @implNote sRGB linearization is looked up in a precomputed table, and converted colors are
+     *           cached, so repeated colors (the vast majority in page images) are converted only
+     *           once; results are exactly the same as plain conversion.
      * @see <a href="https://bottosson.github.io/posts/oklab/">Oklab, a perceptual color space for
      *      image processing — Björn Ottosson</a>
      */
     public static final SampleDiffer OKLAB = new SampleDiffer() {
+      /**
+       * Oklab color.
+       *
+       * @param rgb
+       *          Source sRGB sample (packed, without alpha component).
+       */
+      record Lab(int rgb, double l, double a, double b) {
+      }
+
+      /**
+       * Bit count of {@link #labCache} slot indexes.
+       */
+      private static final int LAB_CACHE_BITS = 12;
+
+      /**
+       * Linear sRGB channel values, indexed by 8-bit sRGB channel value.
+       */
+      private static final double[] linearChannels = linearChannels();
+
+      /**
+       * Creates the lookup table of linear sRGB channel values.
+       */
+      private static double[] linearChannels() {
+        var ret = new double[256];
+        for (int i = 0; i < ret.length; i++) {
+          ret[i] = sRgbToLinear(i / 255d);
+        }
+        return ret;
+      }
+
       // SPDX-SnippetBegin
       // SPDX-SnippetCopyrightText: 2020 Björn Ottosson
       // SPDX-License-Identifier: MIT
       //
       // Source: https://bottosson.github.io/posts/oklab/#converting-from-linear-srgb-to-oklab
       // SourceName: linear_srgb_to_oklab
-      // Changes: integrates convertion to linear sRGB (`sRgbToLinear`)
+      // Changes: integrates convertion to linear sRGB (`sRgbToLinear`) via lookup table
       /**
        * Converts an sRGB sample to Oklab color space.
        *
@@ -157,11 +212,11 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
        *      "https://bottosson.github.io/posts/oklab/#converting-from-linear-srgb-to-oklab">Converting
        *      from linear sRGB to Oklab — Björn Ottosson</a>
        */
-      private static double[] rgbToOklab(int rgb) {
+      private static Lab rgbToOklab(int rgb) {
         // sRGB -> Linear sRGB (undo sRGB gamma encoding)
-        double lr = sRgbToLinear(((rgb >> 16) & 0xFF) / 255d);
-        double lg = sRgbToLinear(((rgb >> 8) & 0xFF) / 255d);
-        double lb = sRgbToLinear((rgb & 0xFF) / 255d);
+        double lr = linearChannels[(rgb >> 16) & 0xFF];
+        double lg = linearChannels[(rgb >> 8) & 0xFF];
+        double lb = linearChannels[rgb & 0xFF];
 
         // Linear sRGB -> LMS' (non-linear cone space)
         double l_ = cbrt(0.4122214708 * lr + 0.5363325363 * lg + 0.0514459929 * lb);
@@ -169,11 +224,10 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
         double s_ = cbrt(0.0883024619 * lr + 0.2817188376 * lg + 0.6299787005 * lb);
 
         // LMS' -> Oklab
-        return new double[] {
+        return new Lab(rgb,
             0.2104542553 * l_ + 0.7936177850 * m_ - 0.0040720468 * s_,
             1.9779984951 * l_ - 2.4285922050 * m_ + 0.4505937099 * s_,
-            0.0259040371 * l_ + 0.7827717662 * m_ - 0.8086757660 * s_
-        };
+            0.0259040371 * l_ + 0.7827717662 * m_ - 0.8086757660 * s_);
       }
       // SPDX-SnippetEnd
 
@@ -197,20 +251,43 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
       }
       // SPDX-SnippetEnd
 
+      /**
+       * Recently converted colors.
+       * <p>
+       * Direct-mapped cache, as page images typically consist of a few colors repeated over and
+       * over. Concurrent access is benign: entries are immutable, and a lost update just costs a
+       * redundant conversion.
+       * </p>
+       */
+      private final @Nullable Lab[] labCache = new Lab[1 << LAB_CACHE_BITS];
+
       @Override
       public double diff(int rgb1, int rgb2) {
         // Convert sRGB to Oklab!
-        double[] lab1 = rgbToOklab(rgb1);
-        double[] lab2 = rgbToOklab(rgb2);
+        Lab lab1 = lab(rgb1);
+        Lab lab2 = lab(rgb2);
 
         // Calculate deltas across Oklab channels!
-        double dL = lab1[0] - lab2[0];
-        double dA = lab1[1] - lab2[1];
-        double dB = lab1[2] - lab2[2];
+        double dL = lab1.l - lab2.l;
+        double dA = lab1.a - lab2.a;
+        double dB = lab1.b - lab2.b;
 
         return dL * dL + dA * dA + dB * dB;
       }
 
+      /**
+       * Gets the Oklab color corresponding to an sRGB sample, caching it.
+       */
+      private Lab lab(int rgb) {
+        rgb &= 0xFFFFFF;
+        int slot = (rgb * 0x9E3779B1 /* Fibonacci hashing */) >>> (Integer.SIZE - LAB_CACHE_BITS);
+        Lab ret = labCache[slot];
+        if (ret == null || ret.rgb != rgb) {
+          labCache[slot] = ret = rgbToOklab(rgb);
+        }
+        return ret;
+      }
+
       /**
        * @implNote Pass-through: Oklab range corresponds to normal for standard sRGB gamut.
        */
@@ -334,6 +411,323 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     public abstract BufferedImage renderPage(int index) throws IOException;
   }
 
+  /**
+   * Page comparison handler.
+   *
+   * @author Stefano Chizzolini
+   * @see #comparePages(PagedMediaAdapter, Path, PageComparisonHandler)
+   */
+  @FunctionalInterface
+  protected interface PageComparisonHandler {
+    /**
+     * Handles the comparison result of a document page.
+     *
+     * @param pageIndex
+     *          Page index.
+     * @param actualPageImage
+     *          Actual page image.
+     * @param expectedPageImage
+     *          Expected page image ({@code null}, if missing).
+     * @param diffImage
+     *          {@linkplain #diff(BufferedImage, BufferedImage) Diff image} ({@code null}, if no
+     *          difference is found or {@code expectedPageImage} is missing).
+     */
+    void handle(int pageIndex, BufferedImage actualPageImage,
+        @Nullable BufferedImage expectedPageImage, @Nullable BufferedImage diffImage)
+        throws IOException;
+  }
+
+  /**
+   * Comparison result of a document page.
+   *
+   * @author Stefano Chizzolini
+   */
+  private record PageComparison(int pageIndex, BufferedImage actualPageImage,
+      @Nullable BufferedImage expectedPageImage, @Nullable BufferedImage diffImage) {
+  }
+
+  /**
+   * Shared state of a {@linkplain DiffTask diff task} tree.
+   *
+   * @author Stefano Chizzolini
+   */
+  private static final class DiffContext {
+    /**
+     * Gets the pixel data of the given raster, if directly accessible as a whole.
+     *
+     * @return {@code null}, if {@code raster} is not backed by a compact array of
+     *         {@linkplain #IMAGE_TYPE packed samples} (for example, a subimage).
+     */
+    static int @Nullable [] data(Raster raster) {
+      return raster.getDataBuffer() instanceof DataBufferInt dataBuffer
+          && dataBuffer.getNumBanks() == 1 && dataBuffer.getOffset() == 0
+          && raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel
+          && sampleModel.getScanlineStride() == raster.getWidth()
+          && raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+              ? dataBuffer.getData()
+              : null;
+    }
+
+    final Raster actualRaster;
+    final int @Nullable [] actualData;
+    final Raster expectedRaster;
+    final int @Nullable [] expectedData;
+    final int imageHeight;
+    final int imageWidth;
+    final SampleDiffer sampleDiffer;
+    final double sampleDiffThreshold;
+
+    /**
+     * Divergence flags of the tiles the images are partitioned into ({@code null}, if
+     * {@linkplain #prefilter() prefiltering} was not applied).
+     */
+    boolean @Nullable [] tileDivergences;
+    int tileColumnCount;
+
+    volatile @Nullable BufferedImage diffImage;
+
+    DiffContext(Raster actualRaster, Raster expectedRaster, SampleDiffer sampleDiffer,
+        double sampleDiffThreshold) {
+      this.actualRaster = actualRaster;
+      this.actualData = data(actualRaster);
+      this.expectedRaster = expectedRaster;
+      this.expectedData = data(expectedRaster);
+      this.imageWidth = expectedRaster.getWidth();
+      this.imageHeight = expectedRaster.getHeight();
+      this.sampleDiffer = sampleDiffer;
+      this.sampleDiffThreshold = sampleDiffThreshold;
+    }
+
+    /**
+     * Marks the tiles containing any non-identical sample, so that the
+     * {@linkplain DiffTask diff tasks} can skip the others.
+     * <p>
+     * Tiles are compared directly on the backing arrays of the images, in parallel by tile row.
+     * </p>
+     *
+     * @return Whether any tile diverges ({@code true}, if the pixel data of the images is not
+     *         directly accessible).
+     */
+    boolean prefilter() {
+      final int[] actualData = this.actualData;
+      final int[] expectedData = this.expectedData;
+      if (actualData == null || expectedData == null)
+        return true;
+
+      final int imageWidth = this.imageWidth;
+      final int imageHeight = this.imageHeight;
+      final int tileColumnCount = this.tileColumnCount =
+          (imageWidth + DIFF_TILE_SIZE - 1) / DIFF_TILE_SIZE;
+      final var tileDivergences = this.tileDivergences =
+          new boolean[tileColumnCount * ((imageHeight + DIFF_TILE_SIZE - 1) / DIFF_TILE_SIZE)];
+      return IntStream.range(0, tileDivergences.length / tileColumnCount).parallel()
+          .map($tileRow -> {
+            int divergentTileCount = 0;
+            final int tileRowOffset = $tileRow * tileColumnCount;
+            for (int y = $tileRow * DIFF_TILE_SIZE,
+                yLimit = Math.min(y + DIFF_TILE_SIZE, imageHeight); y < yLimit; y++) {
+              final int rowOffset = y * imageWidth;
+              for (int tileColumn = 0; tileColumn < tileColumnCount; tileColumn++) {
+                if (tileDivergences[tileRowOffset + tileColumn]) {
+                  continue;
+                }
+
+                final int fromIndex = rowOffset + tileColumn * DIFF_TILE_SIZE;
+                final int toIndex = Math.min(fromIndex + DIFF_TILE_SIZE, rowOffset + imageWidth);
+                if (Arrays.mismatch(actualData, fromIndex, toIndex, expectedData, fromIndex,
+                    toIndex) >= 0) {
+                  tileDivergences[tileRowOffset + tileColumn] = true;
+                  divergentTileCount++;
+                }
+              }
+            }
+            return divergentTileCount;
+          }).sum() > 0;
+    }
+
+    /**
+     * Gets the pixel data of the diff image, lazily allocating the latter.
+     */
+    int[] diffData() {
+      var ret = diffImage;
+      if (ret == null) {
+        synchronized (this) {
+          if ((ret = diffImage) == null) {
+            diffImage = ret = new BufferedImage(imageWidth, imageHeight, IMAGE_TYPE);
+          }
+        }
+      }
+      return ((DataBufferInt) ret.getRaster().getDataBuffer()).getData();
+    }
+  }
+
+  /**
+   * Diff task over a band of image rows.
+   * <p>
+   * The band is recursively split until its height falls within {@value #DIFF_BAND_HEIGHT} rows;
+   * then, the diff mask of the band is built along with its {@linkplain #DIFF_BAND_HALO halo}
+   * (the rows adjacent to the band, needed by the cluster density check), and filtered in the same
+   * pass. Halo rows are evaluated redundantly by adjacent bands, so no band has to wait for its
+   * neighbors.
+   * </p>
+   * <p>
+   * The result is the count of divergent samples in the band.
+   * </p>
+   *
+   * @author Stefano Chizzolini
+   */
+  @SuppressWarnings("serial")
+  private static final class DiffTask extends RecursiveTask<Integer> {
+    final DiffContext context;
+    final int endY;
+    final int startY;
+
+    DiffTask(DiffContext context, int startY, int endY) {
+      this.context = context;
+      this.startY = startY;
+      this.endY = endY;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (endY - startY > DIFF_BAND_HEIGHT) {
+        int midY = (startY + endY) >>> 1;
+        var task1 = new DiffTask(context, startY, midY);
+        var task2 = new DiffTask(context, midY, endY);
+        task2.fork();
+        return task1.compute() + task2.join();
+      }
+
+      final int imageWidth = context.imageWidth;
+      final int imageHeight = context.imageHeight;
+      final int maskStartY = Math.max(startY - DIFF_BAND_HALO, 0);
+      final int maskEndY = Math.min(endY + DIFF_BAND_HALO, imageHeight);
+
+      /*
+       * 1. Building the diff mask...
+       *
+       * NOTE: Each sample is evaluated for divergence with the diffing algorithm against the noise
+       * threshold.
+       */
+      int[] mask = null;
+      {
+        final SampleDiffer sampleDiffer = context.sampleDiffer;
+        final double sampleDiffThreshold = context.sampleDiffThreshold;
+        final boolean[] tileDivergences = context.tileDivergences;
+        final int tileColumnCount = context.tileColumnCount;
+        final int[] actualData = context.actualData;
+        final int[] expectedData = context.expectedData;
+        final boolean direct;
+        final int[] actualRowData;
+        final int[] expectedRowData;
+        if (actualData != null && expectedData != null) {
+          direct = true;
+          actualRowData = actualData;
+          expectedRowData = expectedData;
+        } else {
+          direct = false;
+          actualRowData = new int[imageWidth];
+          expectedRowData = new int[imageWidth];
+        }
+        for (int y = maskStartY; y < maskEndY; y++) {
+          final int rowOffset;
+          if (direct) {
+            rowOffset = y * imageWidth;
+          } else {
+            context.actualRaster.getDataElements(0, y, imageWidth, 1, actualRowData);
+            context.expectedRaster.getDataElements(0, y, imageWidth, 1, expectedRowData);
+            rowOffset = 0;
+          }
+          final int tileRowOffset = (y / DIFF_TILE_SIZE) * tileColumnCount;
+          final int maskRowOffset = (y - maskStartY) * imageWidth;
+          for (int tileColumn = 0, x = 0; x < imageWidth; tileColumn++) {
+            final int xLimit = Math.min(x + DIFF_TILE_SIZE, imageWidth);
+            // Identical tile?
+            if (tileDivergences != null && !tileDivergences[tileRowOffset + tileColumn]) {
+              x = xLimit;
+              continue;
+            }
+
+            for (; x < xLimit; x++) {
+              final int actualSample = actualRowData[rowOffset + x];
+              final int expectedSample = expectedRowData[rowOffset + x];
+              // Actual sample diverges?
+              if (actualSample != expectedSample /*
+                                                  * NOTE: Identical samples have zero distance,
+                                                  * whatever the algorithm
+                                                  */
+                  && sampleDiffer.diff(actualSample, expectedSample) > sampleDiffThreshold) {
+                if (mask == null) {
+                  mask = new int[(maskEndY - maskStartY) * imageWidth];
+                }
+
+                /*
+                 * NOTE: Mimicking a subtractive-color surface, brighter colors approximate to the
+                 * white of a blank page, whilst dimmer colors approximate to the black of an
+                 * impressed page. Therefore, an actual sample dimmer than expected is considered
+                 * added information; conversely, an actual sample brighter than expected is
+                 * considered removed information.
+                 */
+                mask[maskRowOffset + x] =
+                    colorIntensity(actualSample) < colorIntensity(expectedSample)
+                        ? SAMPLE_DIFF_COLOR__ADDED
+                        : SAMPLE_DIFF_COLOR__REMOVED;
+              }
+            }
+          }
+        }
+      }
+      if (mask == null)
+        return 0;
+
+      // Band rows, without halo.
+      final int bandOffset = (startY - maskStartY) * imageWidth;
+      final int bandLength = (endY - startY) * imageWidth;
+      boolean bandDiverges = false;
+      for (int i = bandOffset, limit = bandOffset + bandLength; i < limit; i++) {
+        if (mask[i] != 0) {
+          bandDiverges = true;
+          break;
+        }
+      }
+      if (!bandDiverges)
+        return 0;
+
+      System.arraycopy(mask, bandOffset, context.diffData(), startY * imageWidth, bandLength);
+
+      /*
+       * 2. Filtering noise out of the diff mask...
+       *
+       * NOTE: Each diff sample is evaluated against its neighbors, to weed out random, isolated,
+       * noisy samples (false positives).
+       */
+      int ret = 0;
+      for (int y = Math.max(startY, 2), yLimit = Math.min(endY, imageHeight - 2); y < yLimit;
+          y++) {
+        final int rowOffset = (y - maskStartY) * imageWidth;
+        for (int x = 2, limit = imageWidth - 2; x < limit; x++) {
+          if (mask[rowOffset + x] == 0) {
+            continue;
+          }
+
+          // Evaluating diff density over a 5x5 cluster...
+          int diffNeighborCount = 0;
+          neighborhoodLoop: for (int ny = -2; ny <= 2; ny++) {
+            for (int nx = -2, nLimit = 2; nx <= nLimit; nx++) {
+              // Diff density beyond noise level?
+              if (mask[rowOffset + ny * imageWidth + (x + nx)] != 0
+                  && ++diffNeighborCount >= DIFF_NEIGHBOR_THRESHOLD) {
+                ret++;
+                break neighborhoodLoop;
+              }
+            }
+          }
+        }
+      }
+      return ret;
+    }
+  }
+
   /**
    * Image type used to represent page images in memory.
    * <p>
@@ -349,7 +743,42 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
 
   private static final String IMAGE_FORMAT = "png";
 
+  /**
+   * File extension of {@linkplain #getRasterCacheDir() raster cache} entries.
+   */
+  private static final String RASTER_CACHE__EXTENSION = "raster";
+  /**
+   * Size (in bytes) of the header of raster cache entries.
+   * <p>
+   * Header layout (little-endian): magic number (int), format version (int), source file size
+   * (long), source file last modified time (long, epoch milliseconds), image width (int), image
+   * height (int).
+   * </p>
+   */
+  private static final int RASTER_CACHE__HEADER_SIZE = 32;
+  /**
+   * Size of the buffer through which {@linkplain #getRasterCacheDir() raster cache} entries are
+   * read (multiple of {@link Integer#BYTES}).
+   */
+  private static final int RASTER_CACHE__READ_BUFFER_SIZE = 1 << 16;
+  private static final int RASTER_CACHE__MAGIC = 0x50435243 /* "PCRC" */;
+  private static final int RASTER_CACHE__VERSION = 1;
+
+  /**
+   * Maximum height of the row bands the images are partitioned into for parallel
+   * {@linkplain #diff(BufferedImage, BufferedImage) comparison}.
+   */
+  private static final int DIFF_BAND_HEIGHT = 64;
+  /**
+   * Height of the margin around a band, covered by the 5x5 neighborhood of its samples.
+   */
+  private static final int DIFF_BAND_HALO = 2;
   private static final int DIFF_NEIGHBOR_THRESHOLD = 4;
+  /**
+   * Side length of the square tiles the images are partitioned into for
+   * {@linkplain #isTilePrefilterEnabled() prefiltering}.
+   */
+  private static final int DIFF_TILE_SIZE = 32;
 
   /**
    * Color to mark unexpected new pixel (that is, present in the actual image only).
@@ -369,10 +798,123 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     return ((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF);
   }
 
+  /**
+   * Fills the remaining space of a buffer from a channel.
+   *
+   * @return {@code false}, if the channel ended before the buffer was filled.
+   */
+  private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0)
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Loads the image corresponding to a raster cache entry.
+   * <p>
+   * The pixel data is copied straight into the image raster through a small heap buffer (memory
+   * mapping would leave the file mapped until the mapping is garbage-collected).
+   * </p>
+   *
+   * @return {@code null}, if {@code cacheFile} doesn't exist or is stale.
+   */
+  private static @Nullable BufferedImage readRasterCache(Path cacheFile,
+      BasicFileAttributes sourceAttributes) throws IOException {
+    try (var channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < RASTER_CACHE__HEADER_SIZE)
+        return null;
+
+      var buffer = ByteBuffer.allocate(RASTER_CACHE__READ_BUFFER_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .limit(RASTER_CACHE__HEADER_SIZE);
+      if (!readFully(channel, buffer))
+        return null;
+
+      buffer.flip();
+      if (buffer.getInt() != RASTER_CACHE__MAGIC
+          || buffer.getInt() != RASTER_CACHE__VERSION
+          || buffer.getLong() != sourceAttributes.size()
+          || buffer.getLong() != sourceAttributes.lastModifiedTime().toMillis())
+        return null;
+
+      int width = buffer.getInt();
+      int height = buffer.getInt();
+      if (width <= 0 || height <= 0
+          || size != RASTER_CACHE__HEADER_SIZE + (long) width * height * Integer.BYTES)
+        return null;
+
+      var ret = new BufferedImage(width, height, IMAGE_TYPE);
+      int[] data = ((DataBufferInt) ret.getRaster().getDataBuffer()).getData();
+      for (int offset = 0; offset < data.length;) {
+        buffer.clear().limit((int) Math.min(buffer.capacity(),
+            (long) (data.length - offset) * Integer.BYTES));
+        if (!readFully(channel, buffer))
+          return null;
+
+        buffer.flip();
+        int count = buffer.remaining() / Integer.BYTES;
+        buffer.asIntBuffer().get(data, offset, count);
+        offset += count;
+      }
+      return ret;
+    } catch (NoSuchFileException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes a raster cache entry.
+   * <p>
+   * The entry is written to a temporary file, then atomically moved to its final location, so
+   * concurrent readers never see it partially written.
+   * </p>
+   */
+  private static void writeRasterCache(Path cacheFile, BufferedImage image,
+      BasicFileAttributes sourceAttributes) throws IOException {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] data = DiffContext.data(image.getRaster());
+    if (data == null) {
+      data = (int[]) image.getRaster().getDataElements(0, 0, width, height, null);
+    }
+
+    var buffer = ByteBuffer
+        .allocate(RASTER_CACHE__HEADER_SIZE + data.length * Integer.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(RASTER_CACHE__MAGIC)
+        .putInt(RASTER_CACHE__VERSION)
+        .putLong(sourceAttributes.size())
+        .putLong(sourceAttributes.lastModifiedTime().toMillis())
+        .putInt(width)
+        .putInt(height);
+    buffer.asIntBuffer().put(data);
+
+    Files.createDirectories(cacheFile.getParent());
+    Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(),
+        null);
+    try {
+      try (var channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
   private double diffTolerance = 0;
   private final Function<Path, ? extends A> documentLoader;
+  private int pipelineDepth = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+  private @Nullable Path rasterCacheDir;
   private SampleDiffer sampleDiffer = SampleDiffers.OKLAB;
   private double sampleDiffTolerance = .02;
+  private boolean tilePrefilterEnabled = true;
 
   protected PagedMediaAsserter(Function<Path, ? extends A> documentLoader) {
     this.documentLoader = documentLoader;
@@ -391,6 +933,34 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     return diffTolerance;
   }
 
+  /**
+   * Maximum number of pages concurrently in flight while
+   * {@linkplain #comparePages(PagedMediaAdapter, Path, PageComparisonHandler) comparing documents}.
+   * <p>
+   * Caps the memory footprint of the comparison, as each page in flight holds its actual, expected
+   * and diff images; {@code 1} disables pipelining.
+   * </p>
+   *
+   * @return {@code [1,∞)}
+   */
+  public int getPipelineDepth() {
+    return pipelineDepth;
+  }
+
+  /**
+   * Directory where decoded images are cached ({@code null}, if caching is disabled).
+   * <p>
+   * Decoding PNG files may cost more than comparing their images: if this property is defined,
+   * each image {@linkplain #readImage(Path) read} is also stored as raw pixel data, which is copied
+   * straight into the image raster through a small heap buffer on subsequent reads (even across
+   * runs), skipping decoding. PNG files stay the source of truth: cache entries are bound to the
+   * size and last modified time of their source, and silently replaced when stale.
+   * </p>
+   */
+  public @Nullable Path getRasterCacheDir() {
+    return rasterCacheDir;
+  }
+
   /**
    * Sample difference algorithm to {@linkplain #diff(BufferedImage, BufferedImage) use}.
    */
@@ -411,6 +981,21 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     return sampleDiffTolerance;
   }
 
+  /**
+   * Whether identical regions are skipped before {@linkplain #diff(BufferedImage, BufferedImage)
+   * comparison}.
+   * <p>
+   * If enabled, the images are partitioned into fixed-size tiles, which are compared sample by
+   * sample directly on the backing pixel data; only the tiles containing non-identical samples go
+   * through the {@linkplain #getSampleDiffer() sample difference algorithm}, and images without
+   * such tiles are immediately reported as matching. As most pages are typically identical to their
+   * expected counterparts, this saves the bulk of the comparison cost.
+   * </p>
+   */
+  public boolean isTilePrefilterEnabled() {
+    return tilePrefilterEnabled;
+  }
+
   /**
    * Sets {@link #getDiffTolerance() diffTolerance}.
    */
@@ -419,6 +1004,22 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     return this;
   }
 
+  /**
+   * Sets {@link #getPipelineDepth() pipelineDepth}.
+   */
+  public PagedMediaAsserter<A> setPipelineDepth(int value) {
+    pipelineDepth = requireAtLeast(value, 1, "value");
+    return this;
+  }
+
+  /**
+   * Sets {@link #getRasterCacheDir() rasterCacheDir}.
+   */
+  public PagedMediaAsserter<A> setRasterCacheDir(@Nullable Path value) {
+    rasterCacheDir = value;
+    return this;
+  }
+
   /**
    * Sets {@link #getSampleDiffer() sampleDiffer}.
    */
@@ -435,6 +1036,92 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
     return this;
   }
 
+  /**
+   * Sets {@link #isTilePrefilterEnabled() tilePrefilterEnabled}.
+   */
+  public PagedMediaAsserter<A> setTilePrefilterEnabled(boolean value) {
+    tilePrefilterEnabled = value;
+    return this;
+  }
+
+  /**
+   * Compares the pages of a document against their expected images.
+   * <p>
+   * Pages are processed through a bounded pipeline: while a page is being rendered, the expected
+   * images of the same and previous pages are decoded and {@linkplain #diff(BufferedImage,
+   * BufferedImage) diffed} on other workers, up to {@link #getPipelineDepth() pipelineDepth} pages
+   * in flight. Rendering is serialized on a dedicated worker, as document adapters are not required
+   * to be thread-safe; expected images are loaded by a dedicated pool, so their blocking I/O doesn't
+   * starve the common pool the diffs run on.
+   * </p>
+   *
+   * @param actualDocument
+   *          Actual document.
+   * @param expectedDocumentFile
+   *          Expected document file, used by this method to derive expected page image paths in the
+   *          same directory.
+   * @param handler
+   *          Handles the comparison results, sequentially in page order, on the calling thread.
+   */
+  protected void comparePages(A actualDocument, Path expectedDocumentFile,
+      PageComparisonHandler handler) throws IOException {
+    var renderer = Executors.newSingleThreadExecutor($ -> {
+      var ret = new Thread($, "PagedMediaAsserter-renderer");
+      ret.setDaemon(true);
+      return ret;
+    });
+    var loader = Executors.newFixedThreadPool(pipelineDepth, $ -> {
+      var ret = new Thread($, "PagedMediaAsserter-loader");
+      ret.setDaemon(true);
+      return ret;
+    });
+    var pendingPages = new ArrayDeque<CompletableFuture<PageComparison>>();
+    try {
+      for (int i = 0, pageCount = actualDocument.getPageCount(); i < pageCount; i++) {
+        // Pipeline full?
+        if (pendingPages.size() >= pipelineDepth) {
+          handle(await(pendingPages.removeFirst(), IOException.class), handler);
+        }
+
+        final int pageIndex = i;
+        var actualPageImage = CompletableFuture.supplyAsync(() -> {
+          try {
+            return actualDocument.renderPage(pageIndex);
+          } catch (IOException ex) {
+            throw runtime(ex);
+          }
+        }, renderer);
+        var expectedPageImage = CompletableFuture.supplyAsync(() -> {
+          try {
+            return readImage(getImageFile(expectedDocumentFile, pageIndex, EMPTY));
+          } catch (IOException ex) {
+            throw runtime(ex);
+          }
+        }, loader);
+        pendingPages.add(actualPageImage.thenCombineAsync(expectedPageImage,
+            ($actual, $expected) -> new PageComparison(pageIndex, $actual, $expected,
+                $expected != null ? diff($actual, $expected) : null)));
+      }
+      while (!pendingPages.isEmpty()) {
+        handle(await(pendingPages.removeFirst(), IOException.class), handler);
+      }
+    } finally {
+      pendingPages.forEach($ -> $.cancel(true));
+      loader.shutdownNow();
+      renderer.shutdownNow();
+      try {
+        /*
+         * NOTE: Any rendering still running must complete before returning, as the caller is free
+         * to close the document afterwards.
+         */
+        //noinspection ResultOfMethodCallIgnored
+        renderer.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
   /**
    * Builds the diff image of the given ones.
    * <p>
@@ -458,80 +1145,17 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
       throw wrongArg("actualImage", ARG_VALUE__OMITTED, "size MUST be the same as `expectedImage` "
           + "-- {}x{}", imageWidth, imageHeight);
 
-    BufferedImage ret = null;
-    int sampleDiffCount = 0;
-    {
-      int[] retData = EMPTY_INT_ARRAY /* Just to make NullAway happy */;
-
-      /*
-       * 1. Building the diff mask...
-       *
-       * NOTE: Each sample is evaluated for divergence with the diffing algorithm against the noise
-       * threshold.
-       */
-      {
-        final Raster actualRaster = actualImage.getRaster();
-        final Raster expectedRaster = expectedImage.getRaster();
-        final var actualRowData = new int[imageWidth];
-        final var expectedRowData = new int[imageWidth];
-        final double sampleDiffThreshold = sampleDiffer.resolve(sampleDiffTolerance);
-        int retOffset = 0;
-        for (int y = 0; y < imageHeight; y++) {
-          actualRaster.getDataElements(0, y, imageWidth, 1, actualRowData);
-          expectedRaster.getDataElements(0, y, imageWidth, 1, expectedRowData);
-          for (int i = 0; i < imageWidth; i++) {
-            // Actual sample diverges?
-            if (sampleDiffer.diff(actualRowData[i], expectedRowData[i]) > sampleDiffThreshold) {
-              if (ret == null) {
-                ret = new BufferedImage(imageWidth, imageHeight, IMAGE_TYPE);
-                retData = ((DataBufferInt) ret.getRaster().getDataBuffer()).getData();
-              }
-
-              /*
-               * NOTE: Mimicking a subtractive-color surface, brighter colors approximate to the
-               * white of a blank page, whilst dimmer colors approximate to the black of an
-               * impressed page. Therefore, an actual sample dimmer than expected is considered
-               * added information; conversely, an actual sample brighter than expected is
-               * considered removed information.
-               */
-              retData[retOffset] =
-                  colorIntensity(actualRowData[i]) < colorIntensity(expectedRowData[i])
-                      ? SAMPLE_DIFF_COLOR__ADDED
-                      : SAMPLE_DIFF_COLOR__REMOVED;
-            }
-            retOffset++;
-          }
-        }
-      }
-      /*
-       * 2. Filtering noise out of the diff mask...
-       *
-       * NOTE: Each diff sample is evaluated against its neighbors, to weed out random, isolated,
-       * noisy samples (false positives).
-       */
-      if (ret != null) {
-        for (int y = 2; y < imageHeight - 2; y++) {
-          for (int x = 2, limit = imageWidth - 2; x < limit; x++) {
-            if (retData[y * imageWidth + x] == 0) {
-              continue;
-            }
+    var context = new DiffContext(actualImage.getRaster(), expectedImage.getRaster(),
+        sampleDiffer, sampleDiffer.resolve(sampleDiffTolerance));
+    // Identical images?
+    if (tilePrefilterEnabled && !context.prefilter())
+      return null;
 
-            // Evaluating diff density over a 5x5 cluster...
-            int diffNeighborCount = 0;
-            neighborhoodLoop: for (int ny = -2; ny <= 2; ny++) {
-              for (int nx = -2, nLimit = 2; nx <= nLimit; nx++) {
-                // Diff density beyond noise level?
-                if (retData[(y + ny) * imageWidth + (x + nx)] != 0
-                    && ++diffNeighborCount >= DIFF_NEIGHBOR_THRESHOLD) {
-                  sampleDiffCount++;
-                  break neighborhoodLoop;
-                }
-              }
-            }
-          }
-        }
-      }
-    }
+    var task = new DiffTask(context, 0, imageHeight);
+    int sampleDiffCount = imageHeight > DIFF_BAND_HEIGHT
+        ? ForkJoinPool.commonPool().invoke(task)
+        : task.compute() /* NOTE: Small images are not worth the scheduling overhead */;
+    BufferedImage ret = context.diffImage;
     return sampleDiffCount / (double) (imageWidth * imageHeight) > diffTolerance ? ret : null;
   }
 
@@ -558,32 +1182,31 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
    * Loads main image from the given file.
    *
    * @return {@code null}, if {@code file} doesn't exist.
+   * @implNote If {@link #getRasterCacheDir() rasterCacheDir} is defined, the image is loaded from
+   *           the corresponding cache entry, if fresh.
    */
   protected @Nullable BufferedImage readImage(Path file) throws IOException {
     if (!exists(file))
       return null;
 
-    try (ImageInputStream in = ImageIO.createImageInputStream(
-        file.toFile() /*
-                       * IMPORTANT: ImageIO supports only `java.io.File`, NOT `java.nio.file.Path`
-                       */)) {
-      Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
-      if (!readers.hasNext())
-        throw failedIO("Reader MISSING: {}", file);
-
-      var reader = readers.next();
+    Path rasterCacheDir = this.rasterCacheDir;
+    if (rasterCacheDir == null)
+      return decodeImage(file);
+
+    Path cacheFile = rasterCacheDir.resolve(file.getFileName().toString() + DOT
+        + UUID.nameUUIDFromBytes(file.toAbsolutePath().normalize().toString().getBytes(UTF_8))
+        + DOT + RASTER_CACHE__EXTENSION);
+    var fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+    BufferedImage ret = readRasterCache(cacheFile, fileAttributes);
+    if (ret == null) {
+      ret = decodeImage(file);
       try {
-        reader.setInput(in, true, true);
-
-        ImageReadParam param = reader.getDefaultReadParam();
-        {
-          param.setDestinationType(ImageTypeSpecifier.createFromBufferedImageType(IMAGE_TYPE));
-        }
-        return reader.read(0, param);
-      } finally {
-        reader.dispose();
+        writeRasterCache(cacheFile, ret, fileAttributes);
+      } catch (IOException ex) {
+        getLog().warn("Raster cache entry write FAILED at {}", cacheFile, ex);
       }
     }
+    return ret;
   }
 
   /**
@@ -629,4 +1252,35 @@ public abstract class PagedMediaAsserter<A extends PagedMediaAsserter.PagedMedia
           getImageFile(actualDocumentFile, pageIndex, "*"), ex1);
     }
   }
+
+  /**
+   * Decodes main image from the given file.
+   */
+  private BufferedImage decodeImage(Path file) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(
+        file.toFile() /*
+                       * IMPORTANT: ImageIO supports only `java.io.File`, NOT `java.nio.file.Path`
+                       */)) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+      if (!readers.hasNext())
+        throw failedIO("Reader MISSING: {}", file);
+
+      var reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        {
+          param.setDestinationType(ImageTypeSpecifier.createFromBufferedImageType(IMAGE_TYPE));
+        }
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private void handle(PageComparison page, PageComparisonHandler handler) throws IOException {
+    handler.handle(page.pageIndex, page.actualPageImage, page.expectedPageImage, page.diffImage);
+  }
 }
@@ -0,0 +1,363 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (JsonDiffer.java) is part of pdfclown-common-build module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.build.test.model;
+
+import static org.pdfclown.common.build.internal.temp.util.Exceptions.wrongArg;
+import static org.pdfclown.common.build.internal.temp.util.Objects.toStringWithProperties;
+import static org.pdfclown.common.build.internal.temp.util.Objects.type;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Structural difference collector of JSON models.
+ * <p>
+ * Models are JSON trees (either {@link JSONObject} or {@link JSONArray}, including their
+ * {@link JsonElement} counterparts), such as those produced by {@link ModelMapper} or parsed from
+ * serialized snapshots. Differences are reported as {@link Diff}s, addressed by
+ * <a href="https://datatracker.ietf.org/doc/html/rfc6901">JSON Pointer</a> paths, in document
+ * order (object members sorted by key).
+ * </p>
+ * <p>
+ * Each subtree is hashed bottom-up (Merkle-style) in a single pass per model, so identical
+ * subtrees are skipped in constant time and only diverging paths are descended: a comparison
+ * costs linear time in the size of the models, plus the size of the differences. Array items are
+ * aligned skipping their common prefix and suffix, then paired by index.
+ * </p>
+ * <p>
+ * Leaf values are compared by type (string, number, boolean) and string form, so values sharing
+ * the same text (such as {@code 1} and {@code "1"}) are different; numbers are compared by their
+ * canonical form (so {@code 1} and {@code 1.0} are equal).
+ * </p>
+ * <p>
+ * A missing object member is equal to a {@linkplain JSONObject#NULL null} one, as both mean no
+ * value (for example, {@link ModelMapper} omits null members, whilst serialized snapshots may
+ * retain them): no difference is reported between them. Array items, instead, are never missing,
+ * so a null item is reported as any other.
+ * </p>
+ *
+ * @author Stefano Chizzolini
+ * @implNote Container equality is decided by 64-bit hashes: a collision would hide a difference,
+ *           which is statistically negligible for test models. Leaf hash matches are confirmed by
+ *           actual comparison.
+ */
+public class JsonDiffer extends ModelDiffer<Object, JsonDiffer.Diff> {
+  /**
+   * Structural difference between JSON models.
+   *
+   * @author Stefano Chizzolini
+   */
+  public static final class Diff {
+    /**
+     * Difference type.
+     */
+    public enum Type {
+      /**
+       * Value missing in the initial model.
+       */
+      ADDED,
+      /**
+       * Value different between the models.
+       */
+      CHANGED,
+      /**
+       * Value missing in the modified model.
+       */
+      REMOVED
+    }
+
+    private final @Nullable Object from;
+    private final String path;
+    private final @Nullable Object to;
+    private final Type type;
+
+    Diff(Type type, String path, @Nullable Object from, @Nullable Object to) {
+      this.type = type;
+      this.path = path;
+      this.from = from;
+      this.to = to;
+    }
+
+    /**
+     * Value in the initial model ({@code null}, if {@link Type#ADDED ADDED}).
+     */
+    public @Nullable Object getFrom() {
+      return from;
+    }
+
+    /**
+     * Location of the value (JSON Pointer).
+     */
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * Value in the modified model ({@code null}, if {@link Type#REMOVED REMOVED}).
+     */
+    public @Nullable Object getTo() {
+      return to;
+    }
+
+    /**
+     * Difference type.
+     */
+    public Type getType() {
+      return type;
+    }
+
+    @Override
+    public String toString() {
+      return toStringWithProperties(this, "type", type, "path", path, "from", from, "to", to);
+    }
+  }
+
+  private static final long HASH__ARRAY = 0x5A3F_0C2E_91D7_4B68L;
+  private static final long HASH__BOOLEAN = 0x63E1_B8A4_0F27_D95CL;
+  private static final long HASH__NULL = 0x1F6B_C83D_2E95_A047L;
+  private static final long HASH__NUMBER = 0x48C7_2D05_E9B1_6FA3L;
+  private static final long HASH__OBJECT = 0x7C21_94E8_B05D_3F16L;
+  private static final long HASH__STRING = 0x2D94_6AF1_C7B3_8E05L;
+
+  private static final long MIX__MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+  /**
+   * Escapes a JSON Pointer reference token.
+   */
+  private static String escape(String key) {
+    return key.indexOf('~') < 0 && key.indexOf('/') < 0 ? key
+        : key.replace("~", "~0").replace("/", "~1");
+  }
+
+  /**
+   * Gets the hash of a string.
+   *
+   * @param tag
+   *          Type tag of the value represented by {@code value}.
+   */
+  private static long hash(String value, long tag) {
+    // FNV-1a.
+    long ret = 0xCBF2_9CE4_8422_2325L;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      ret = (ret ^ value.charAt(i)) * 0x0000_0100_0000_01B3L;
+    }
+    return mix(ret ^ tag);
+  }
+
+  /**
+   * Gets whether a value is a container (either object or array).
+   */
+  private static boolean isContainer(@Nullable Object value) {
+    return value instanceof JSONObject || value instanceof JSONArray;
+  }
+
+  /**
+   * Gets an array item.
+   *
+   * @return {@link JSONObject#NULL}, if the item is null (unlike object members, array items are
+   *         never missing).
+   */
+  private static Object item(JSONArray array, int index) {
+    var ret = array.opt(index);
+    return ret != null ? ret : JSONObject.NULL;
+  }
+
+  /**
+   * Gets the string form of a leaf value.
+   *
+   * @return {@code null}, if {@code value} is null.
+   */
+  private static @Nullable String leaf(@Nullable Object value) {
+    if (value == null || JSONObject.NULL.equals(value))
+      return null;
+    else if (value instanceof Number number)
+      return JSONObject.numberToString(number);
+    else
+      return value.toString();
+  }
+
+  /**
+   * Gets whether leaf values are equal.
+   */
+  private static boolean leafEquals(@Nullable Object value1, @Nullable Object value2) {
+    return leafTag(value1) == leafTag(value2)
+        && Objects.equals(leaf(value1), leaf(value2));
+  }
+
+  /**
+   * Gets the type tag of a leaf value.
+   */
+  private static long leafTag(@Nullable Object value) {
+    if (value == null || JSONObject.NULL.equals(value))
+      return HASH__NULL;
+    else if (value instanceof Number)
+      return HASH__NUMBER;
+    else if (value instanceof Boolean)
+      return HASH__BOOLEAN;
+    else
+      return HASH__STRING;
+  }
+
+  /**
+   * Scrambles a hash (SplitMix64 finalizer).
+   */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D0_49BB_1331_11EBL;
+    return value ^ (value >>> 31);
+  }
+
+  /**
+   * Subtree hashes of the models being compared.
+   */
+  private final IdentityHashMap<Object, Long> hashes = new IdentityHashMap<>();
+
+  /**
+   * Gets the differences between JSON models.
+   *
+   * @param obj1
+   *          Initial model (either {@link JSONObject} or {@link JSONArray}).
+   * @param obj2
+   *          Modified model (either {@link JSONObject} or {@link JSONArray}).
+   * @return Differences, in document order.
+   * @throws IllegalArgumentException
+   *           if a model is neither {@link JSONObject} nor {@link JSONArray}.
+   */
+  @Override
+  public List<Diff> diff(@Nullable Object obj1, @Nullable Object obj2) {
+    checkModel(obj1, "obj1");
+    checkModel(obj2, "obj2");
+
+    var ret = new ArrayList<Diff>();
+    try {
+      diff(obj1, obj2, "", ret);
+    } finally {
+      hashes.clear();
+    }
+    return ret;
+  }
+
+  private void checkModel(@Nullable Object obj, String name) {
+    if (obj != null && !(obj instanceof JSONObject || obj instanceof JSONArray))
+      throw wrongArg(name, type(obj), "MUST be either {} or {}", JSONObject.class,
+          JSONArray.class);
+  }
+
+  private void diff(@Nullable Object value1, @Nullable Object value2, String path,
+      List<Diff> diffs) {
+    if (value1 == null || JSONObject.NULL.equals(value1)) {
+      if (!(value2 == null || JSONObject.NULL.equals(value2))) {
+        diffs.add(new Diff(value1 == null ? Diff.Type.ADDED : Diff.Type.CHANGED, path, value1,
+            value2));
+      }
+      return;
+    } else if (value2 == null) {
+      diffs.add(new Diff(Diff.Type.REMOVED, path, value1, null));
+      return;
+    } else if (same(value1, value2))
+      return;
+
+    if (value1 instanceof JSONObject obj1 && value2 instanceof JSONObject obj2) {
+      var keys = new TreeSet<>(obj1.keySet());
+      keys.addAll(obj2.keySet());
+      for (var key : keys) {
+        diff(obj1.opt(key), obj2.opt(key), path + '/' + escape(key), diffs);
+      }
+    } else if (value1 instanceof JSONArray array1 && value2 instanceof JSONArray array2) {
+      int length1 = array1.length();
+      int length2 = array2.length();
+
+      // Skip common prefix!
+      int start = 0;
+      while (start < length1 && start < length2
+          && same(item(array1, start), item(array2, start))) {
+        start++;
+      }
+
+      // Skip common suffix!
+      int end1 = length1;
+      int end2 = length2;
+      while (end1 > start && end2 > start
+          && same(item(array1, end1 - 1), item(array2, end2 - 1))) {
+        end1--;
+        end2--;
+      }
+
+      // Pair the remaining items!
+      for (int i = start, end = Math.max(end1, end2); i < end; i++) {
+        if (i < end1 && i < end2) {
+          diff(item(array1, i), item(array2, i), path + '/' + i, diffs);
+        } else if (i < end1) {
+          diffs.add(new Diff(Diff.Type.REMOVED, path + '/' + i, item(array1, i), null));
+        } else {
+          diffs.add(new Diff(Diff.Type.ADDED, path + '/' + i, null, item(array2, i)));
+        }
+      }
+    } else {
+      diffs.add(new Diff(Diff.Type.CHANGED, path, value1, value2));
+    }
+  }
+
+  /**
+   * Gets the hash of a value, computing (and caching) the hashes of its whole subtree.
+   */
+  private long hash(@Nullable Object value) {
+    if (value instanceof JSONObject obj) {
+      var ret = hashes.get(obj);
+      if (ret == null) {
+        /*
+         * NOTE: Members are combined commutatively, so their (unspecified) order is irrelevant.
+         */
+        long hash = HASH__OBJECT;
+        for (var key : obj.keySet()) {
+          hash += mix((hash(key, HASH__STRING) * MIX__MULTIPLIER) ^ hash(obj.opt(key)));
+        }
+        ret = mix(hash ^ obj.length());
+        hashes.put(obj, ret);
+      }
+      return ret;
+    } else if (value instanceof JSONArray array) {
+      var ret = hashes.get(array);
+      if (ret == null) {
+        long hash = HASH__ARRAY;
+        for (int i = 0, length = array.length(); i < length; i++) {
+          hash = (Long.rotateLeft(hash, 23) ^ hash(array.opt(i))) * MIX__MULTIPLIER;
+        }
+        ret = mix(hash ^ array.length());
+        hashes.put(array, ret);
+      }
+      return ret;
+    } else {
+      var leaf = leaf(value);
+      return leaf != null ? hash(leaf, leafTag(value)) : HASH__NULL;
+    }
+  }
+
+  /**
+   * Gets whether values are equal.
+   * <p>
+   * Containers are compared by hash, leaves by actual value.
+   * </p>
+   */
+  private boolean same(@Nullable Object value1, @Nullable Object value2) {
+    return hash(value1) == hash(value2)
+        && (isContainer(value1) ? isContainer(value2)
+            : !isContainer(value2) && leafEquals(value1, value2));
+  }
+}
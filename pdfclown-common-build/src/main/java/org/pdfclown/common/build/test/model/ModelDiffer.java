@@ -23,6 +23,7 @@ import org.jspecify.annotations.Nullable;
  * @param <TDiff>
  *          Difference type.
  * @author Stefano Chizzolini
+ * @see JsonDiffer
  */
 public abstract class ModelDiffer<TModel, TDiff> {
   /**
@@ -33,9 +33,16 @@ import static org.pdfclown.common.util.Chars.SQUARE_BRACKET_OPEN;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.io.Serial;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -45,10 +52,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.TreeMap;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.function.FailableConsumer;
+import org.apache.commons.lang3.function.FailableSupplier;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.jspecify.annotations.Nullable;
 import org.pdfclown.common.build.internal.temp.util.annot.Initializer;
+import org.pdfclown.common.build.internal.temp.util.collect.Comparators.HierarchicalTypeComparator;
 import org.pdfclown.common.build.internal.temp.util.collect.Comparators.HierarchicalTypeComparator.Priorities.TypePriorityComparator;
 import org.pdfclown.common.build.internal.temp.util.collect.DynamicMap;
 import org.pdfclown.common.build.internal.util.reflect.Introspections;
@@ -67,6 +79,13 @@ import org.slf4j.LoggerFactory;
  * mapped by {@link #mapValue(Object, List, Set, int)} as either simple values (such as
  * {@code String}) or compositions themselves.</li>
  * </ul>
+ * <p>
+ * Besides the tree-based mapping ({@link #map(Object) map(..)}, {@link #mapAll(Collection)
+ * mapAll(..)}), a streaming mapping ({@link #write(Object, Writer) write(..)},
+ * {@link #writeAll(Collection, Writer) writeAll(..)}) is available: it writes the same compact JSON
+ * text as the tree-based serialization ({@code toString()}) directly while the object graph is
+ * traversed, without materializing the whole tree in memory.
+ * </p>
  *
  * @author Stefano Chizzolini
  */
@@ -277,12 +296,17 @@ public class ModelMapper<T> {
        */
       private TypePriorityComparator priorities = explicitPriority();
 
+      /**
+       * Related types comparator, based on a snapshot of {@link #priorities}.
+       */
+      private @Nullable HierarchicalTypeComparator comparator;
+      private int comparatorVersion;
       @SuppressWarnings({ "NotNullFieldNotInitialized", "NullAway" })
-      private Function<Class, Stream<Class>> base;
+      private Set<Class> keys;
 
       @Override
       public Stream<Class> apply(Class type) {
-        return base.apply(type);
+        return superTypes(type, comparator(), keys, false);
       }
 
       @Override
@@ -294,21 +318,38 @@ public class ModelMapper<T> {
 
       @Initializer
       void init(Set<Class> keys) {
-        base = $ -> superTypes($, hierarchicalType()
-            .thenComparing(priorities)
-            .thenComparing(interfacePriority())
-            .thenComparing(($1, $2) -> {
-              int ret;
-              var name1 = $1.getName();
-              var name2 = $2.getName();
-
-              // Prioritize library-specific types!
-              if ((ret = libraryPriority(name1) - libraryPriority(name2)) != 0)
-                return ret;
-
-              // Compare arbitrarily (no more relevant aspects to evaluate)!
-              return name1.compareTo(name2);
-            }), keys, false);
+        this.keys = keys;
+      }
+
+      /**
+       * Gets the related types comparator.
+       * <p>
+       * As {@link org.pdfclown.common.build.internal.temp.util.Objects#superTypes(Class,
+       * HierarchicalTypeComparator, Set, boolean) superTypes(..)} memoizes its results per
+       * comparator, the comparator is reused until {@link #priorities} change, then rebuilt on
+       * their new snapshot.
+       * </p>
+       */
+      private HierarchicalTypeComparator comparator() {
+        if (comparator == null || comparatorVersion != priorities.getVersion()) {
+          comparatorVersion = priorities.getVersion();
+          comparator = hierarchicalType()
+              .thenComparing(priorities.clone())
+              .thenComparing(interfacePriority())
+              .thenComparing(($1, $2) -> {
+                int ret;
+                var name1 = $1.getName();
+                var name2 = $2.getName();
+
+                // Prioritize library-specific types!
+                if ((ret = libraryPriority(name1) - libraryPriority(name2)) != 0)
+                  return ret;
+
+                // Compare arbitrarily (no more relevant aspects to evaluate)!
+                return name1.compareTo(name2);
+              });
+        }
+        return comparator;
       }
     }
 
@@ -356,8 +397,293 @@ public class ModelMapper<T> {
     }
   }
 
+  /**
+   * Discovered property of a domain type.
+   *
+   * @param name
+   *          Property name.
+   * @param getter
+   *          Property getter, adapted to {@code (Object)Object} signature ({@code null}, if
+   *          inaccessible).
+   * @param failure
+   *          Getter resolution failure ({@code null}, if {@code getter} is available).
+   */
+  private record Property(String name, @Nullable MethodHandle getter,
+      @Nullable RuntimeException failure) {
+    static Property of(String name, Method getter) {
+      var lookup = MethodHandles.lookup();
+      try {
+        MethodHandle handle;
+        try {
+          handle = lookup.unreflect(getter);
+        } catch (IllegalAccessException ex) {
+          // Public getter on non-public type?
+          getter.setAccessible(true);
+          handle = lookup.unreflect(getter);
+        }
+        return new Property(name, handle.asType(GETTER_TYPE), null);
+      } catch (Exception ex) {
+        /*
+         * NOTE: Resolution failure is deferred to the actual use of the property, as it may be
+         * excluded by selectors.
+         */
+        return new Property(name, null, runtime(ex));
+      }
+    }
+  }
+
+  /**
+   * Streaming state.
+   */
+  private static final class StreamState {
+    Writer writer;
+    /**
+     * Member prefix (comma and key) to write before the value of the open slot.
+     */
+    @Nullable
+    String slotPrefix;
+    /**
+     * Value of the open slot ({@code null}, if no slot is open).
+     * <p>
+     * A slot is consumed by the mapping of its value as composition, which is then written
+     * directly; any other mapping of the value is written by the slot owner.
+     * </p>
+     */
+    @Nullable
+    Object slotValue;
+
+    StreamState(Writer writer) {
+      this.writer = writer;
+    }
+
+    void close() {
+      slotPrefix = null;
+      slotValue = null;
+    }
+
+    /**
+     * Consumes the open slot, writing its prefix.
+     */
+    void consume() throws IOException {
+      writer.write(requireNonNull(slotPrefix));
+      close();
+    }
+
+    void open(String prefix, Object value) {
+      slotPrefix = prefix;
+      slotValue = value;
+    }
+  }
+
+  /**
+   * Members of a streamed JSON object.
+   * <p>
+   * Members are written in key order, while their values are mapped in property order: each value
+   * is written directly if its key is the next one, otherwise it is buffered (as serialized text)
+   * until all the preceding members have been resolved.
+   * </p>
+   */
+  private static final class StreamMembers {
+    final TreeMap<String, @Nullable String> entries;
+    boolean empty = true;
+
+    StreamMembers(Comparator<String> keyComparator) {
+      entries = new TreeMap<>(keyComparator);
+    }
+
+    /**
+     * Writes the leading resolved members.
+     */
+    void flush(Writer writer) throws IOException {
+      while (!entries.isEmpty()) {
+        var entry = entries.firstEntry();
+        if (entry.getValue() == null)
+          return;
+
+        writer.write(prefix(entry.getKey()));
+        writer.write(entry.getValue());
+        entries.pollFirstEntry();
+        empty = false;
+      }
+    }
+
+    boolean isNext(String key) {
+      return entries.comparator().compare(entries.firstKey(), key) == 0;
+    }
+
+    /**
+     * Declares a member whose value is still to be mapped.
+     */
+    void pending(String key) {
+      entries.put(key, null);
+    }
+
+    String prefix(String key) {
+      return (empty ? S : S + COMMA) + JSONObject.quote(key) + ':';
+    }
+
+    /**
+     * Resolves a member.
+     *
+     * @param value
+     *          Serialized value ({@code null}, if the member is omitted).
+     */
+    void put(String key, @Nullable String value) {
+      if (value != null) {
+        entries.put(key, value);
+      } else {
+        entries.remove(key);
+      }
+    }
+
+    /**
+     * Resolves a member directly written.
+     */
+    void written(String key) {
+      entries.remove(key);
+      empty = false;
+    }
+  }
+
+  /**
+   * Placeholder of a composition written by streaming mapping.
+   * <p>
+   * As its content has already been written, any access to it fails: value mappers MUST return it
+   * as-is.
+   * </p>
+   */
+  private static final class StreamedJsonObject extends JsonObject {
+    private static IllegalStateException accessed() {
+      return wrongState("Composition already streamed: value mappers MUST return it as-is");
+    }
+
+    StreamedJsonObject() {
+      super(Comparator.naturalOrder());
+    }
+
+    @Override
+    public void clear() {
+      throw accessed();
+    }
+
+    @Override
+    public boolean has(String key) {
+      throw accessed();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      throw accessed();
+    }
+
+    @Override
+    public Set<String> keySet() {
+      throw accessed();
+    }
+
+    @Override
+    public int length() {
+      throw accessed();
+    }
+
+    @Override
+    public @Nullable Object opt(@Nullable String key) {
+      throw accessed();
+    }
+
+    @Override
+    public JSONObject put(String name, @Nullable Object value) {
+      throw accessed();
+    }
+
+    @Override
+    public @Nullable Object remove(String key) {
+      throw accessed();
+    }
+
+    @Override
+    public String toString() {
+      return "STREAMED";
+    }
+
+    @Override
+    public Writer write(Writer writer, int indentFactor, int indent) {
+      throw accessed();
+    }
+
+    @Override
+    protected Set<Map.Entry<String, Object>> entrySet() {
+      throw accessed();
+    }
+  }
+
   private static final Logger log = LoggerFactory.getLogger(ModelMapper.class);
 
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * Placeholder of compositions written by streaming mapping.
+   */
+  private static final JsonObject STREAMED = new StreamedJsonObject();
+
+  /**
+   * Discovered properties of domain types, sorted by name.
+   * <p>
+   * NOTE: Properties are sorted to ensure consistent mappings across multiple sessions over the
+   * same object.
+   * </p>
+   */
+  private static final ClassValue<Property[]> properties = new ClassValue<>() {
+    @Override
+    protected Property[] computeValue(Class<?> type) {
+      List<PropertyDescriptor> descriptors;
+      try {
+        descriptors = Introspections.propertyDescriptors(type, null);
+      } catch (IntrospectionException ex) {
+        throw runtime(ex);
+      }
+      return descriptors.stream()
+          .filter($ -> $.getReadMethod() != null)
+          .sorted(Comparator.comparing(PropertyDescriptor::getName))
+          .map($ -> Property.of($.getName(), $.getReadMethod()))
+          .toArray(Property[]::new);
+    }
+  };
+
+  /**
+   * Writes an array item the same way {@link JsonArray} serializes it.
+   */
+  private static void writeItemValue(Writer writer, @Nullable Object value) throws IOException {
+    value = JsonElement.normValue(value);
+    if (value == null) {
+      writer.write("null");
+    } else {
+      writeValue(writer, value);
+    }
+  }
+
+  /**
+   * Writes an object member value the same way {@link JsonObject} serializes it.
+   */
+  private static void writeMemberValue(Writer writer, @Nullable Object value) throws IOException {
+    value = JsonElement.normValue(value);
+    if (value == null || value.equals("null")) {
+      writer.write("null");
+    } else {
+      writeValue(writer, value);
+    }
+  }
+
+  private static void writeValue(Writer writer, Object value) throws IOException {
+    if (value instanceof JSONObject obj) {
+      obj.write(writer, 0, 0);
+    } else if (value instanceof JSONArray array) {
+      array.write(writer, 0, 0);
+    } else {
+      JSONObject.quote(value.toString(), writer);
+    }
+  }
+
   protected Comparator<String> keyComparator;
   protected @Nullable Map<Class, PropertySelector> typeSelectors;
   protected final ValueMapperMap valueMappers = new ValueMapperMap();
@@ -388,6 +714,19 @@ public class ModelMapper<T> {
     });
   }
 
+  /**
+   * Selection masks of discovered properties, by type and level.
+   * <p>
+   * NOTE: Masks reflect the state of {@link #typeSelectors} at the time of their first use, as type
+   * selectors are resolved once per type.
+   * </p>
+   */
+  private final Map<Class, List<boolean @Nullable []>> propertySelections = new HashMap<>();
+  /**
+   * Streaming state ({@code null}, if not streaming).
+   */
+  private @Nullable StreamState stream;
+
   /**
    * @param propertyMapping
    *          Whether object property mapping is enabled.
@@ -464,6 +803,86 @@ public class ModelMapper<T> {
     return ret;
   }
 
+  /**
+   * Maps an object to its JSON counterpart, writing it directly.
+   * <p>
+   * The output is the same as {@code map(obj).toString()}.
+   * </p>
+   *
+   * @param obj
+   *          Object to map.
+   * @param writer
+   *          Target (for byte streams, wrap them into a UTF-8 {@link java.io.OutputStreamWriter}).
+   */
+  public void write(T obj, Writer writer) throws IOException {
+    write(obj, List.of(), writer);
+  }
+
+  /**
+   * Maps an object to its JSON counterpart, writing it directly.
+   * <p>
+   * The output is the same as {@code map(obj, selectors).toString()}.
+   * </p>
+   *
+   * @param obj
+   *          Object to map.
+   * @param selectors
+   *          Filters for selective inclusion/exclusion of object properties based on their parent
+   *          type. Types outside this collection are fully included by default.
+   * @param writer
+   *          Target (for byte streams, wrap them into a UTF-8 {@link java.io.OutputStreamWriter}).
+   */
+  public void write(T obj, List<PropertySelector> selectors, Writer writer) throws IOException {
+    stream(writer, $ -> {
+      $.open(S, obj);
+      map(obj, selectors, new HashSet<>(), 0);
+    });
+  }
+
+  /**
+   * Maps objects to their JSON counterparts, writing them directly.
+   * <p>
+   * The output is the same as {@code mapAll(objs).toString()}.
+   * </p>
+   *
+   * @param objs
+   *          Objects to map.
+   * @param writer
+   *          Target (for byte streams, wrap them into a UTF-8 {@link java.io.OutputStreamWriter}).
+   */
+  public void writeAll(Collection<? extends T> objs, Writer writer) throws IOException {
+    writeAll(objs, List.of(), writer);
+  }
+
+  /**
+   * Maps objects to their JSON counterparts, writing them directly.
+   * <p>
+   * The output is the same as {@code mapAll(objs, selectors).toString()}.
+   * </p>
+   *
+   * @param objs
+   *          Objects to map.
+   * @param selectors
+   *          Filters for selective inclusion/exclusion of object properties based on their parent
+   *          type. Types outside this collection are fully included by default.
+   * @param writer
+   *          Target (for byte streams, wrap them into a UTF-8 {@link java.io.OutputStreamWriter}).
+   */
+  public void writeAll(Collection<? extends T> objs, List<PropertySelector> selectors,
+      Writer writer) throws IOException {
+    stream(writer, $ -> {
+      var visitedObjs = new HashSet<>();
+      $.writer.write('[');
+      boolean first = true;
+      for (var obj : objs) {
+        $.open(first ? S : S + COMMA, obj);
+        map(obj, selectors, visitedObjs, 1);
+        first = false;
+      }
+      $.writer.write(']');
+    });
+  }
+
   /**
    * Maps an object to its JSON counterpart.
    * <p>
@@ -490,7 +909,7 @@ public class ModelMapper<T> {
    *           transformation ordering is enforced (properties are therefore sorted before being
    *           processed).
    */
-  @SuppressWarnings("unchecked")
+  @SuppressWarnings({ "ReferenceEquality", "unchecked" })
   protected JsonObject map(Object obj, List<PropertySelector> selectors, Set<Object> visitedObjs,
       int level) {
     if (visitedObjs.contains(obj))
@@ -498,34 +917,24 @@ public class ModelMapper<T> {
 
     visitedObjs.add(obj);
 
-    var ret = new JsonObject(keyComparator);
-
-    PropertySelector objSelector = typeSelectors != null
-        ? typeSelectors.computeIfAbsent(obj.getClass(), $ -> {
-          /*-
-           * NOTE: Applied property selector is the most specific to the object type, according to
-           * these rules:
-           * - derived types win over their ancestors;
-           * - concrete types win over interfaces;
-           * - matching selectors are merged (if non-conflicting, the latest is combined with the
-           *   other one; otherwise, the latest wins over the other one).
-           */
-          PropertySelector value = new PropertySelector(Object.class, true);
-          for (PropertySelector selector : selectors) {
-            if (selector.type.isAssignableFrom($)
-                && (value.type.isAssignableFrom(selector.type)
-                    || value.type.isInterface())) {
-              value.merge(selector);
-            }
-          }
-          return value;
-        })
-        : null;
+    var objSelector = objSelector(obj.getClass(), selectors);
 
     if (log.isDebugEnabled()) {
       log.debug("map(level: {}): {}, {}", level, sqn(obj), objSelector);
     }
 
+    // Streaming?
+    if (stream != null && stream.slotValue == obj) {
+      try {
+        writeObject(obj, objSelector, selectors, visitedObjs, level);
+      } catch (IOException ex) {
+        throw runtime(ex);
+      }
+      return STREAMED;
+    }
+
+    var ret = new JsonObject(keyComparator);
+
     int innerLevel = level + 1;
 
     // Custom properties.
@@ -561,42 +970,28 @@ public class ModelMapper<T> {
 
     // Discovered properties.
     if (objSelector != null) {
-      List<PropertyDescriptor> objProperties;
-      try {
-        objProperties = Introspections.propertyDescriptors(obj.getClass(), null);
-        /*
-         * NOTE: Properties are sorted before being processed to ensure consistent mappings across
-         * multiple sessions over the same object.
-         */
-        objProperties.sort(Comparator.comparing(PropertyDescriptor::getName));
-      } catch (IntrospectionException ex) {
-        throw runtime(ex);
-      }
-      for (var objProperty : objProperties) {
-        if (!objSelector.isSelected(objProperty.getName(), level)
-            || ret.has(objProperty.getName())) {
+      var objProperties = properties.get(obj.getClass());
+      var selections = selections(obj.getClass(), objProperties, objSelector, level);
+      for (int i = 0; i < objProperties.length; i++) {
+        var objProperty = objProperties[i];
+        if (!selections[i] || ret.has(objProperty.name())) {
           continue;
         }
 
-        var getter = objProperty.getReadMethod();
-        if (getter == null) {
-          continue;
-        }
+        var getter = objProperty.getter();
+        if (getter == null)
+          throw requireNonNull(objProperty.failure());
 
-        Object mappedValue;
+        Object value;
         try {
-          if (!getter.canAccess(obj)) {
-            getter.setAccessible(true);
-          }
-          mappedValue = mapValue(getter.invoke(obj), selectors, visitedObjs, innerLevel);
-        } catch (InvocationTargetException ex) {
-          mappedValue = ex.getTargetException().getClass().getName();
+          value = (Object) getter.invokeExact(obj);
+        } catch (Throwable ex) {
+          log.warn("Value mapping failed", ex);
 
-          log.warn("Value mapping failed", ex.getTargetException());
-        } catch (Exception ex) {
-          throw runtime(ex);
+          ret.put(objProperty.name(), ex.getClass().getName());
+          continue;
         }
-        ret.put(objProperty.getName(), mappedValue);
+        ret.put(objProperty.name(), mapValue(value, selectors, visitedObjs, innerLevel));
       }
     }
     return ret;
@@ -607,6 +1002,10 @@ public class ModelMapper<T> {
    * <p>
    * Such properties are placed before all the other properties.
    * </p>
+   * <p>
+   * NOTE: During streaming mapping, {@code objJson} is buffered and written along with the other
+   * members.
+   * </p>
    *
    * @param obj
    *          Object to map.
@@ -647,4 +1046,317 @@ public class ModelMapper<T> {
                                */ valueMappers.get(value.getClass()));
     return valueMapper.map(value, selectors, visitedObjs, level);
   }
+
+  /**
+   * Gets the selection mask of the discovered properties of a type at a level.
+   *
+   * @param type
+   *          Domain type.
+   * @param typeProperties
+   *          Discovered properties of {@code type}.
+   * @param typeSelector
+   *          Property selector of {@code type}.
+   * @param level
+   *          Current nesting level.
+   */
+  private boolean[] selections(Class type, Property[] typeProperties,
+      PropertySelector typeSelector, int level) {
+    var typeSelections = propertySelections.computeIfAbsent(type, $ -> new ArrayList<>());
+    while (typeSelections.size() <= level) {
+      typeSelections.add(null);
+    }
+    var ret = typeSelections.get(level);
+    if (ret == null) {
+      ret = new boolean[typeProperties.length];
+      for (int i = 0; i < typeProperties.length; i++) {
+        ret[i] = typeSelector.isSelected(typeProperties[i].name(), level);
+      }
+      typeSelections.set(level, ret);
+    }
+    return ret;
+  }
+
+  /**
+   * Gets the property selector applied to a type.
+   *
+   * @return {@code null}, if property mapping is disabled.
+   */
+  private @Nullable PropertySelector objSelector(Class type, List<PropertySelector> selectors) {
+    return typeSelectors != null
+        ? typeSelectors.computeIfAbsent(type, $ -> {
+          /*-
+           * NOTE: Applied property selector is the most specific to the object type, according to
+           * these rules:
+           * - derived types win over their ancestors;
+           * - concrete types win over interfaces;
+           * - matching selectors are merged (if non-conflicting, the latest is combined with the
+           *   other one; otherwise, the latest wins over the other one).
+           */
+          PropertySelector value = new PropertySelector(Object.class, true);
+          for (PropertySelector selector : selectors) {
+            if (selector.type.isAssignableFrom($)
+                && (value.type.isAssignableFrom(selector.type)
+                    || value.type.isInterface())) {
+              value.merge(selector);
+            }
+          }
+          return value;
+        })
+        : null;
+  }
+
+  /**
+   * Runs a streaming mapping.
+   */
+  private void stream(Writer writer, FailableConsumer<StreamState, IOException> task)
+      throws IOException {
+    if (stream != null)
+      throw wrongState("Streaming mapping already in progress");
+
+    stream = new StreamState(writer);
+    try {
+      task.accept(stream);
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    } finally {
+      stream = null;
+    }
+  }
+
+  /**
+   * Writes the entries of a map as JSON object.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  private void writeEntries(Map<?, ?> map, List<PropertySelector> selectors,
+      Set<Object> visitedObjs, int level) throws IOException {
+    var stream = requireNonNull(this.stream);
+    stream.consume();
+    stream.writer.write('{');
+    /*
+     * NOTE: Entries are mapped in the same order as `map(..)`, which matches their serialization
+     * order; in case of duplicate keys, the latest entry wins.
+     */
+    var entries = map.entrySet().stream()
+        .sorted(Comparator.comparing($ -> Objects.toString($.getKey()), keyComparator))
+        .toArray(Map.Entry[]::new);
+    boolean empty = true;
+    for (int i = 0; i < entries.length; i++) {
+      var entry = entries[i];
+      var key = Objects.toString(entry.getKey());
+      if (i + 1 < entries.length && key.equals(Objects.toString(entries[i + 1].getKey()))) {
+        // Overridden entry (mapped for consistency of visited objects, then discarded).
+        mapValue(entry.getValue(), selectors, visitedObjs, level);
+        continue;
+      }
+
+      var value = entry.getValue();
+      var prefix = (empty ? S : S + COMMA) + JSONObject.quote(key) + ':';
+      if (value != null) {
+        stream.open(prefix, value);
+      }
+      var mappedValue = mapValue(value, selectors, visitedObjs, level);
+      if (mappedValue != STREAMED) {
+        if (value != null && stream.slotValue == null)
+          throw wrongState("Value mapper of {} MUST return its composition as-is", sqn(value));
+
+        stream.close();
+        if (mappedValue == null) {
+          continue;
+        }
+
+        stream.writer.write(prefix);
+        writeMemberValue(stream.writer, mappedValue);
+      }
+      empty = false;
+    }
+    stream.writer.write('}');
+  }
+
+  /**
+   * Writes the items of an iterable as JSON array.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  private void writeItems(Iterable<?> iterable, List<PropertySelector> selectors,
+      Set<Object> visitedObjs, int level) throws IOException {
+    var stream = requireNonNull(this.stream);
+    stream.consume();
+    stream.writer.write('[');
+    boolean first = true;
+    for (var e : iterable) {
+      var prefix = first ? S : S + COMMA;
+      if (e != null) {
+        stream.open(prefix, e);
+      }
+      var mappedValue = mapValue(e, selectors, visitedObjs, level);
+      if (mappedValue != STREAMED) {
+        if (e != null && stream.slotValue == null)
+          throw wrongState("Value mapper of {} MUST return its composition as-is", sqn(e));
+
+        stream.close();
+        stream.writer.write(prefix);
+        writeItemValue(stream.writer, mappedValue);
+      }
+      first = false;
+    }
+    stream.writer.write(']');
+  }
+
+  /**
+   * Writes a member of a streamed JSON object.
+   *
+   * @param members
+   *          Members of the streamed JSON object.
+   * @param key
+   *          Member key.
+   * @param value
+   *          Member value.
+   * @param mapping
+   *          Maps {@code value}.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  private void writeMember(StreamMembers members, String key, Object value,
+      FailableSupplier<@Nullable Object, IOException> mapping) throws IOException {
+    var stream = requireNonNull(this.stream);
+    members.flush(stream.writer);
+
+    boolean direct = members.isNext(key);
+    var writer = stream.writer;
+    var buffer = direct ? null : new StringWriter();
+    if (buffer != null) {
+      stream.writer = buffer;
+    }
+    boolean omitted = false;
+    try {
+      var prefix = direct ? members.prefix(key) : S;
+      stream.open(prefix, value);
+      var mappedValue = mapping.get();
+      if (mappedValue != STREAMED) {
+        if (stream.slotValue == null)
+          throw wrongState("Value mapper of {} MUST return its composition as-is", sqn(value));
+
+        stream.close();
+        if (mappedValue == null) {
+          omitted = true;
+        } else {
+          stream.writer.write(prefix);
+          writeMemberValue(stream.writer, mappedValue);
+        }
+      }
+    } finally {
+      stream.writer = writer;
+      stream.close();
+    }
+
+    if (buffer != null) {
+      members.put(key, omitted ? null : buffer.toString());
+    } else if (omitted) {
+      members.put(key, null);
+    } else {
+      members.written(key);
+    }
+  }
+
+  /**
+   * Writes an object as JSON object.
+   * <p>
+   * Counterpart of the tree-based mapping in {@link #map(Object, List, Set, int)}.
+   * </p>
+   */
+  private void writeObject(Object obj, @Nullable PropertySelector objSelector,
+      List<PropertySelector> selectors, Set<Object> visitedObjs, int level)
+      throws IOException {
+    var stream = requireNonNull(this.stream);
+    stream.consume();
+    stream.writer.write('{');
+
+    int innerLevel = level + 1;
+    var members = new StreamMembers(keyComparator);
+
+    // Custom properties.
+    var customJson = new JsonObject(keyComparator);
+    mapCustomProperties(obj, objSelector, customJson, level);
+
+    // Collective properties.
+    String collectiveKey = null;
+    if (obj instanceof Map) {
+      if (objSelector == null || objSelector.isSelected("entries", level)) {
+        collectiveKey = "entries";
+      }
+    } else if (obj instanceof Iterable) {
+      if (objSelector == null || objSelector.isSelected("items", level)) {
+        collectiveKey = "items";
+      }
+    }
+
+    for (var key : customJson.keySet()) {
+      if (!key.equals(collectiveKey)) {
+        var buffer = new StringWriter();
+        writeMemberValue(buffer, customJson.get(key));
+        members.put(key, buffer.toString());
+      }
+    }
+    if (collectiveKey != null) {
+      members.pending(collectiveKey);
+    }
+
+    // Discovered properties.
+    Property[] objProperties = null;
+    boolean[] objSelections = null;
+    if (objSelector != null) {
+      objProperties = properties.get(obj.getClass());
+      var selections = selections(obj.getClass(), objProperties, objSelector, level);
+      objSelections = new boolean[objProperties.length];
+      for (int i = 0; i < objProperties.length; i++) {
+        var name = objProperties[i].name();
+        if (selections[i] && !customJson.has(name) && !name.equals(collectiveKey)) {
+          objSelections[i] = true;
+          members.pending(name);
+        }
+      }
+    }
+
+    if (collectiveKey != null) {
+      writeMember(members, collectiveKey, obj, () -> {
+        if (obj instanceof Map<?, ?> map) {
+          writeEntries(map, selectors, visitedObjs, innerLevel);
+        } else {
+          writeItems((Iterable<?>) obj, selectors, visitedObjs, innerLevel);
+        }
+        return STREAMED;
+      });
+    }
+
+    if (objProperties != null) {
+      for (int i = 0; i < objProperties.length; i++) {
+        if (!requireNonNull(objSelections)[i]) {
+          continue;
+        }
+
+        var objProperty = objProperties[i];
+        var getter = objProperty.getter();
+        if (getter == null)
+          throw requireNonNull(objProperty.failure());
+
+        Object value;
+        try {
+          value = (Object) getter.invokeExact(obj);
+        } catch (Throwable ex) {
+          log.warn("Value mapping failed", ex);
+
+          members.put(objProperty.name(), JSONObject.quote(ex.getClass().getName()));
+          continue;
+        }
+        if (value == null) {
+          members.put(objProperty.name(), null);
+          continue;
+        }
+
+        writeMember(members, objProperty.name(), value,
+            () -> mapValue(value, selectors, visitedObjs, innerLevel));
+      }
+    }
+
+    members.flush(stream.writer);
+    stream.writer.write('}');
+  }
 }
@@ -0,0 +1,83 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (CombinationVerifierTest.java) is part of pdfclown-common-build module in pdfClown
+  Common project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.build.test.assertion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.approvaltests.combinations.SkipCombination;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.build.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class CombinationVerifierTest extends BaseTest {
+  /**
+   * Collects responses instead of verifying them.
+   */
+  static class SampleVerifier extends CombinationVerifier {
+    final List<String> responses = new ArrayList<>();
+
+    @Override
+    protected void verifyResponse(String response) {
+      responses.add(response);
+    }
+  }
+
+  private static Object call(int a, String b, int c) {
+    // Simulate uneven call durations, so completion order differs from combination order.
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    if (c == 3)
+      throw new SkipCombination();
+    else if ((a + c) % 7 == 0)
+      throw new IllegalStateException("a + c = " + (a + c));
+
+    return a + b + c;
+  }
+
+  @Test
+  void verify_parallel() {
+    var verifier = new SampleVerifier();
+    var labels = List.of("a", "b", "c");
+    var inputs1 = IntStream.range(0, 20).boxed().toList();
+    var inputs2 = List.of("x", "y", "z");
+    var inputs3 = IntStream.range(0, 10).boxed().toList();
+
+    verifier.verify(CombinationVerifierTest::call, labels, inputs1, inputs2, inputs3);
+    verifier.withParallelism(8).verify(CombinationVerifierTest::call, labels, inputs1, inputs2,
+        inputs3);
+
+    assertEquals(2, verifier.responses.size());
+    assertEquals(verifier.responses.get(0), verifier.responses.get(1));
+    // Skipped combinations (c == 3) excluded.
+    assertEquals(20 * 3 * 9, verifier.responses.get(0).lines().count());
+  }
+
+  @Test
+  void withParallelism() {
+    var verifier = new CombinationVerifier();
+
+    assertEquals(1, verifier.getParallelism());
+    assertEquals(4, verifier.withParallelism(4).getParallelism());
+    assertEquals(1, verifier.getParallelism());
+    assertThrows(IllegalArgumentException.class, () -> verifier.withParallelism(0));
+  }
+}
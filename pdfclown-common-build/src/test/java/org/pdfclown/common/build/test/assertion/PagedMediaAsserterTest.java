@@ -0,0 +1,360 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (PagedMediaAsserterTest.java) is part of pdfclown-common-build module in pdfClown
+  Common project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.build.test.assertion;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.pdfclown.common.build.internal.temp.util.Objects.nonNull;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.build.__test.BaseTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class PagedMediaAsserterTest extends BaseTest {
+  static class SampleAdapter extends PagedMediaAsserter.PagedMediaAdapter {
+    final int pageCount;
+
+    SampleAdapter(Path file, int pageCount) {
+      super(file);
+      this.pageCount = pageCount;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public int getPageCount() {
+      return pageCount;
+    }
+
+    @Override
+    public BufferedImage renderPage(int index) {
+      return image(120, 90, index, 30);
+    }
+  }
+
+  static class SampleAsserter extends PagedMediaAsserter<PagedMediaAsserter.PagedMediaAdapter> {
+    private static final Logger log = LoggerFactory.getLogger(SampleAsserter.class);
+
+    SampleAsserter() {
+      super($ -> {
+        throw new UnsupportedOperationException();
+      });
+    }
+
+    @Override
+    protected Logger getLog() {
+      return log;
+    }
+  }
+
+  private static BufferedImage image(int width, int height, long seed, int blobCount) {
+    var ret = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    int[] data = data(ret);
+    var random = new Random(seed);
+    for (int i = 0; i < blobCount; i++) {
+      int blobX = random.nextInt(width);
+      int blobY = random.nextInt(height);
+      int blobSize = 1 + random.nextInt(6);
+      int color = random.nextInt() & 0xFFFFFF;
+      for (int y = blobY, yLimit = Math.min(blobY + blobSize, height); y < yLimit; y++) {
+        for (int x = blobX, xLimit = Math.min(blobX + blobSize, width); x < xLimit; x++) {
+          data[y * width + x] = color;
+        }
+      }
+    }
+    return ret;
+  }
+
+  private static int[] data(BufferedImage image) {
+    return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+  }
+
+  /**
+   * Single-threaded, two-pass reference implementation of
+   * {@link PagedMediaAsserter#diff(BufferedImage, BufferedImage)}.
+   */
+  private static @Nullable BufferedImage referenceDiff(PagedMediaAsserter<?> asserter,
+      BufferedImage actualImage, BufferedImage expectedImage) {
+    int imageWidth = expectedImage.getWidth();
+    int imageHeight = expectedImage.getHeight();
+    var sampleDiffer = asserter.getSampleDiffer();
+    double sampleDiffThreshold = sampleDiffer.resolve(asserter.getSampleDiffTolerance());
+    int[] actualData = data(actualImage);
+    int[] expectedData = data(expectedImage);
+    var ret = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+    int[] retData = data(ret);
+    boolean diverges = false;
+    for (int i = 0; i < retData.length; i++) {
+      if (sampleDiffer.diff(actualData[i], expectedData[i]) > sampleDiffThreshold) {
+        diverges = true;
+        retData[i] = intensity(actualData[i]) < intensity(expectedData[i])
+            ? 0xFF00FF00
+            : 0xFFFF0000;
+      }
+    }
+    if (!diverges)
+      return null;
+
+    int sampleDiffCount = 0;
+    for (int y = 2; y < imageHeight - 2; y++) {
+      for (int x = 2; x < imageWidth - 2; x++) {
+        if (retData[y * imageWidth + x] == 0) {
+          continue;
+        }
+
+        int diffNeighborCount = 0;
+        for (int ny = -2; ny <= 2; ny++) {
+          for (int nx = -2; nx <= 2; nx++) {
+            if (retData[(y + ny) * imageWidth + (x + nx)] != 0) {
+              diffNeighborCount++;
+            }
+          }
+        }
+        if (diffNeighborCount >= 4) {
+          sampleDiffCount++;
+        }
+      }
+    }
+    return sampleDiffCount / (double) (imageWidth * imageHeight) > asserter.getDiffTolerance()
+        ? ret
+        : null;
+  }
+
+  /**
+   * Uncached reference implementation of {@link PagedMediaAsserter.SampleDiffers#OKLAB}, converting
+   * each sample with no lookup table.
+   */
+  private static double referenceOklabDiff(int rgb1, int rgb2) {
+    double[] lab1 = referenceOklab(rgb1);
+    double[] lab2 = referenceOklab(rgb2);
+    double dL = lab1[0] - lab2[0];
+    double dA = lab1[1] - lab2[1];
+    double dB = lab1[2] - lab2[2];
+    return dL * dL + dA * dA + dB * dB;
+  }
+
+  private static double[] referenceOklab(int rgb) {
+    var linear = new double[3];
+    for (int i = 0; i < linear.length; i++) {
+      double c = ((rgb >> (16 - i * 8)) & 0xFF) / 255d;
+      linear[i] = c >= 0.04045 ? Math.pow((c + 0.055) / 1.055, 2.4) : c / 12.92;
+    }
+    double l = Math.cbrt(0.4122214708 * linear[0] + 0.5363325363 * linear[1]
+        + 0.0514459929 * linear[2]);
+    double m = Math.cbrt(0.2119034982 * linear[0] + 0.6806995451 * linear[1]
+        + 0.1073969566 * linear[2]);
+    double s = Math.cbrt(0.0883024619 * linear[0] + 0.2817188376 * linear[1]
+        + 0.6299787005 * linear[2]);
+    return new double[] {
+        0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s,
+        1.9779984951 * l - 2.4285922050 * m + 0.4505937099 * s,
+        0.0259040371 * l + 0.7827717662 * m - 0.8086757660 * s };
+  }
+
+  private static int intensity(int rgb) {
+    return ((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF);
+  }
+
+  @Test
+  void comparePages() throws IOException {
+    var asserter = new SampleAsserter();
+    asserter.setPipelineDepth(3);
+    var expectedDocumentFile = getEnv().outputPath("expected.pdf");
+    final int pageCount = 10;
+    for (int i = 0; i < pageCount; i++) {
+      // Page 4: mismatching; page 7: missing.
+      if (i == 7) {
+        continue;
+      }
+
+      asserter.writeImage(asserter.getImageFile(expectedDocumentFile, i, ""),
+          image(120, 90, i == 4 ? 99 : i, 30));
+    }
+
+    var pageIndexes = new ArrayList<Integer>();
+    try (var document = new SampleAdapter(getEnv().outputPath("actual.pdf"), pageCount)) {
+      asserter.comparePages(document, expectedDocumentFile,
+          ($pageIndex, $actualPageImage, $expectedPageImage, $diffImage) -> {
+            pageIndexes.add($pageIndex);
+            assertEquals($pageIndex == 7, $expectedPageImage == null, "Page " + $pageIndex);
+            assertEquals($pageIndex == 4, $diffImage != null, "Page " + $pageIndex);
+          });
+    }
+    assertEquals(IntStream.range(0, pageCount).boxed().toList(), pageIndexes);
+  }
+
+  @Test
+  void readImage_rasterCache() throws IOException {
+    var asserter = new SampleAsserter();
+    Path cacheDir = getEnv().outputPath("cache");
+    asserter.setRasterCacheDir(cacheDir);
+    Path imageFile = getEnv().outputPath("image.png");
+    var image = image(150, 100, 1, 200);
+    asserter.writeImage(imageFile, image);
+
+    // Cache miss.
+    assertArrayEquals(data(image), data(nonNull(asserter.readImage(imageFile))));
+    try (var cacheFiles = Files.list(cacheDir)) {
+      assertEquals(1, cacheFiles.count());
+    }
+
+    // Cache hit.
+    assertArrayEquals(data(image), data(nonNull(asserter.readImage(imageFile))));
+
+    // Stale cache entry.
+    var newImage = image(120, 90, 2, 200);
+    asserter.writeImage(imageFile, newImage);
+    Files.setLastModifiedTime(imageFile,
+        FileTime.fromMillis(Files.getLastModifiedTime(imageFile).toMillis() + 2000));
+    assertArrayEquals(data(newImage), data(nonNull(asserter.readImage(imageFile))));
+    try (var cacheFiles = Files.list(cacheDir)) {
+      assertEquals(1, cacheFiles.count());
+    }
+
+    assertNull(asserter.readImage(getEnv().outputPath("missing.png")));
+  }
+
+  @Test
+  void sampleDiffers_oklab() {
+    var sampleDiffer = PagedMediaAsserter.SampleDiffers.OKLAB;
+
+    assertEquals(0, sampleDiffer.diff(0x336699, 0x336699));
+    assertEquals(1, sampleDiffer.diff(0xFFFFFF, 0x000000), 1e-6);
+    // Alpha component is ignored.
+    assertEquals(1, sampleDiffer.diff(0xFFFFFFFF, 0xFF000000), 1e-6);
+    // Pure red: Oklab (0.627955, 0.224863, 0.125846).
+    assertEquals(0.46073, sampleDiffer.diff(0xFF0000, 0x000000), 1e-5);
+
+    // Cache consistency (hits, misses and evictions).
+    var random = new Random(1);
+    var rgbs = random.ints(20_000, 0, 0x1000000).toArray();
+    var diffs = new double[rgbs.length - 1];
+    for (int i = 0; i < diffs.length; i++) {
+      diffs[i] = sampleDiffer.diff(rgbs[i], rgbs[i + 1]);
+    }
+    for (int i = diffs.length - 1; i >= 0; i--) {
+      assertEquals(diffs[i], sampleDiffer.diff(rgbs[i + 1], rgbs[i]));
+    }
+
+    // Lookup table and cache SHOULD match plain conversion exactly.
+    for (int i = 0; i < diffs.length; i++) {
+      assertEquals(referenceOklabDiff(rgbs[i], rgbs[i + 1]), diffs[i]);
+    }
+    int[] channels = { 0, 1, 10, 11, 127, 128, 254, 255 } /* includes linearization knee */;
+    for (int r : channels) {
+      for (int g : channels) {
+        for (int b : channels) {
+          int rgb = (r << 16) | (g << 8) | b;
+          assertEquals(referenceOklabDiff(rgb, 0x336699), sampleDiffer.diff(rgb, 0x336699));
+        }
+      }
+    }
+  }
+
+  @Test
+  void diff() {
+    var asserter = new SampleAsserter();
+    for (var size : new int[][] { { 7, 5 }, { 40, 63 }, { 120, 64 }, { 97, 65 }, { 250, 1003 } }) {
+      int width = size[0];
+      int height = size[1];
+      var expectedImage = image(width, height, 1, width * height / 40);
+      var actualImage = image(width, height, 2, width * height / 40);
+
+      for (var sampleDiffer : new PagedMediaAsserter.SampleDiffer[] {
+          PagedMediaAsserter.SampleDiffers.OKLAB, PagedMediaAsserter.SampleDiffers.YIQ,
+          PagedMediaAsserter.SampleDiffers.RAW }) {
+        asserter.setSampleDiffer(sampleDiffer);
+        for (var tilePrefilterEnabled : new boolean[] { true, false }) {
+          asserter.setTilePrefilterEnabled(tilePrefilterEnabled);
+
+          assertNull(asserter.diff(expectedImage, expectedImage), "Identical images");
+
+          BufferedImage expectedDiff = referenceDiff(asserter, actualImage, expectedImage);
+          BufferedImage actualDiff = asserter.diff(actualImage, expectedImage);
+          if (expectedDiff == null) {
+            assertNull(actualDiff);
+          } else {
+            assertNotNull(actualDiff);
+            assertArrayEquals(data(expectedDiff), data(actualDiff), width + "x" + height);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void diff_tilePrefilter() {
+    var asserter = new SampleAsserter();
+    var expectedImage = image(200, 300, 1, 1500);
+    var actualImage = image(200, 300, 1, 1500);
+    assertNull(asserter.diff(actualImage, expectedImage));
+
+    // Cluster within a single tile.
+    int[] actualData = data(actualImage);
+    for (int y = 40; y < 45; y++) {
+      for (int x = 70; x < 75; x++) {
+        actualData[y * 200 + x] = ~actualData[y * 200 + x] & 0xFFFFFF;
+      }
+    }
+    var diffImage = nonNull(asserter.diff(actualImage, expectedImage));
+    assertArrayEquals(data(nonNull(referenceDiff(asserter, actualImage, expectedImage))),
+        data(diffImage));
+
+    // Subimages (pixel data not directly accessible).
+    var actualFrame = new BufferedImage(210, 310, BufferedImage.TYPE_INT_RGB);
+    actualFrame.getRaster().setDataElements(5, 5, actualImage.getRaster());
+    var expectedFrame = new BufferedImage(210, 310, BufferedImage.TYPE_INT_RGB);
+    expectedFrame.getRaster().setDataElements(5, 5, expectedImage.getRaster());
+    assertArrayEquals(data(diffImage), data(nonNull(asserter.diff(
+        actualFrame.getSubimage(5, 5, 200, 300), expectedFrame.getSubimage(5, 5, 200, 300)))));
+  }
+
+  @Test
+  void diff_tolerance() {
+    var asserter = new SampleAsserter();
+    var expectedImage = image(300, 400, 1, 0);
+    var actualImage = image(300, 400, 1, 0);
+    int[] actualData = data(actualImage);
+    // Noise: isolated samples, filtered out.
+    for (int i = 0; i < actualData.length; i += 97) {
+      actualData[i] = 0xFFFFFF;
+    }
+    assertNull(asserter.diff(actualImage, expectedImage));
+
+    // Cluster across band boundaries.
+    for (int y = 60; y < 70; y++) {
+      for (int x = 100; x < 110; x++) {
+        actualData[y * 300 + x] = 0xFFFFFF;
+      }
+    }
+    assertNotNull(asserter.diff(actualImage, expectedImage));
+
+    asserter.setDiffTolerance(.01);
+    assertNull(asserter.diff(actualImage, expectedImage));
+  }
+}
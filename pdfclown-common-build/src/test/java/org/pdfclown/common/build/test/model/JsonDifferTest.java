@@ -0,0 +1,134 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (JsonDifferTest.java) is part of pdfclown-common-build module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.build.test.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.build.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class JsonDifferTest extends BaseTest {
+  private static String toString(List<JsonDiffer.Diff> diffs) {
+    return diffs.stream()
+        .map($ -> $.getType() + " " + $.getPath() + " " + $.getFrom() + " -> " + $.getTo())
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static JSONObject tree(int depth, int fanOut, String leafPrefix) {
+    var ret = new JSONObject();
+    for (int i = 0; i < fanOut; i++) {
+      ret.put("k" + i, depth > 1 ? tree(depth - 1, fanOut, leafPrefix + i)
+          : leafPrefix + i);
+    }
+    return ret;
+  }
+
+  @Test
+  void diff() {
+    var obj1 = new JSONObject("""
+        {"a":"1","b":{"c":"2","d":["x","y","z"]},"e/f":"3","g":[null,"p"],"h":{"i":"4"}}""");
+    var obj2 = new JSONObject("""
+        {"a":"1","b":{"c":"5","d":["x","w","y","z"]},"e/f":"6","g":["q","p"],"j":"7"}""");
+
+    var diffs = new JsonDiffer().diff(obj1, obj2);
+
+    assertEquals("""
+        CHANGED /b/c 2 -> 5
+        ADDED /b/d/1 null -> w
+        CHANGED /e~1f 3 -> 6
+        CHANGED /g/0 null -> q
+        REMOVED /h {"i":"4"} -> null
+        ADDED /j null -> 7""", toString(diffs));
+  }
+
+  @Test
+  void diff_identical() {
+    var obj1 = tree(4, 8, "v");
+    var obj2 = tree(4, 8, "v");
+
+    assertTrue(new JsonDiffer().diff(obj1, obj2).isEmpty());
+    assertTrue(new JsonDiffer().diff(null, null).isEmpty());
+  }
+
+  @Test
+  void diff_large() {
+    var obj1 = tree(4, 10, "v") /* 10^4 leaves */;
+    var obj2 = tree(4, 10, "v");
+    obj2.getJSONObject("k3").getJSONObject("k1").getJSONObject("k4").put("k1", "changed");
+
+    var diffs = new JsonDiffer().diff(obj1, obj2);
+
+    assertEquals("CHANGED /k3/k1/k4/k1 v3141 -> changed", toString(diffs));
+  }
+
+  @Test
+  void diff_roots() {
+    var obj = new JSONArray("[\"a\"]");
+
+    assertEquals("ADDED  null -> [\"a\"]", toString(new JsonDiffer().diff(null, obj)));
+    assertEquals("REMOVED  [\"a\"] -> null", toString(new JsonDiffer().diff(obj, null)));
+    assertEquals("CHANGED  [\"a\"] -> {}",
+        toString(new JsonDiffer().diff(obj, new JSONObject())));
+    assertThrows(IllegalArgumentException.class, () -> new JsonDiffer().diff("a", obj));
+  }
+
+  @Test
+  void diff_leafTypes() {
+    var obj1 = new JSONObject("""
+        {"a":1,"b":true,"c":"x","d":1.0,"e":[1,"1"],"f":null}""");
+    var obj2 = new JSONObject("""
+        {"a":"1","b":"true","c":"x","d":1,"e":["1",1],"f":"null"}""");
+
+    var diffs = new JsonDiffer().diff(obj1, obj2);
+
+    assertEquals("""
+        CHANGED /a 1 -> 1
+        CHANGED /b true -> true
+        CHANGED /e/0 1 -> 1
+        CHANGED /e/1 1 -> 1
+        CHANGED /f null -> null""", toString(diffs));
+    assertEquals("1", diffs.get(0).getTo());
+  }
+
+  @Test
+  void diff_missingNull() {
+    var obj1 = new JSONObject("""
+        {"a":null,"b":{"c":null},"d":[null]}""");
+    var obj2 = new JSONObject("""
+        {"b":{},"d":[]}""");
+
+    // Missing members equal null ones (unlike array items, which are never missing).
+    assertEquals("REMOVED /d/0 null -> null", toString(new JsonDiffer().diff(obj1, obj2)));
+    assertEquals("ADDED /d/0 null -> null", toString(new JsonDiffer().diff(obj2, obj1)));
+  }
+
+  @Test
+  void diff_modelMapper() {
+    var obj1 = new JSONObject("{\"a\":\"1\"}");
+    var obj2 = new JSONObject("{\"a\":\"2\"}");
+
+    var json = new ModelMapper<JsonDiffer.Diff>(true, null)
+        .mapAll(new JsonDiffer().diff(obj1, obj2),
+            List.of(ModelMapper.PropertySelector.excludeProperties(Object.class, "class")));
+
+    assertEquals("[{\"from\":\"1\",\"path\":\"/a\",\"to\":\"2\",\"type\":\"CHANGED\"}]",
+        json.toString());
+  }
+}
@@ -0,0 +1,252 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ModelMapperTest.java) is part of pdfclown-common-build module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.build.test.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.pdfclown.common.build.test.model.ModelMapper.PropertySelector.excludeProperties;
+import static org.pdfclown.common.build.test.model.ModelMapper.PropertySelector.includeProperties;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.build.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class ModelMapperTest extends BaseTest {
+  public interface Node {
+    @Nullable
+    Node getChild();
+
+    String getName();
+  }
+
+  /**
+   * Non-public implementation (its getters are accessible only through {@link Node} interface).
+   */
+  static class NodeImpl implements Node {
+    final @Nullable Node child;
+    final String name;
+
+    NodeImpl(String name, @Nullable Node child) {
+      this.name = name;
+      this.child = child;
+    }
+
+    @Override
+    public @Nullable Node getChild() {
+      return child;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * Composite node exercising collectives, custom properties and out-of-order members.
+   */
+  static class Group extends NodeImpl {
+    final List<@Nullable Object> items = new ArrayList<>();
+    final Map<Object, @Nullable Object> entries = new LinkedHashMap<>();
+
+    Group(String name, @Nullable Node child) {
+      super(name, child);
+    }
+
+    public String getAlias() {
+      return "null";
+    }
+
+    public String[] getCodes() {
+      return new String[] { "a", "b" };
+    }
+
+    public Map<Object, @Nullable Object> getEntries() {
+      return entries;
+    }
+
+    public List<@Nullable Object> getItems() {
+      return items;
+    }
+
+    public String getZone() {
+      return "";
+    }
+  }
+
+  private static ModelMapper<Node> mapper() {
+    return mapper(null);
+  }
+
+  private static ModelMapper<Node> mapper(@Nullable Comparator<String> keyComparator) {
+    var ret = new ModelMapper<Node>(true, keyComparator) {
+      @Override
+      protected void mapCustomProperties(Object obj, @Nullable PropertySelector objSelector,
+          JsonObject objJson, int level) {
+        if (obj instanceof Group) {
+          objJson.put("$type", "group");
+          objJson.put("name", "overridden");
+        }
+      }
+    };
+    ret.valueMappers.put(Node.class, ret::map);
+    return ret;
+  }
+
+  private static Group model() {
+    var ret = new Group("root", new NodeImpl("leaf", null));
+    var group = new Group("nested", null);
+    group.items.add(null);
+    group.items.add("null");
+    group.items.add(new NodeImpl("item", new NodeImpl("itemChild", null)));
+    group.items.add(new ArrayList<>(List.of("x", "y")));
+    group.items.add("tail");
+    ret.items.add("head");
+    ret.items.add(group);
+    ret.items.add("text \"quoted\"");
+    ret.entries.put("b", new NodeImpl("entryB", null));
+    ret.entries.put("a", "alpha");
+    ret.entries.put("c", null);
+    ret.entries.put("d", "");
+    ret.entries.put(1, new LinkedHashMap<>(Map.of("k", new NodeImpl("deep", null))));
+    return ret;
+  }
+
+  @Test
+  void map() {
+    var obj = new NodeImpl("root", new NodeImpl("leaf", null));
+
+    var selectors = List.of(excludeProperties(Object.class, "class"));
+    var json = mapper().map(obj, selectors);
+
+    assertEquals(
+        "{\"child\":{\"failing\":\"java.lang.IllegalStateException\",\"name\":\"leaf\"},"
+            + "\"failing\":\"java.lang.IllegalStateException\",\"name\":\"root\"}",
+        json.toString());
+    // Repeated mapping (cached plan).
+    assertEquals(json.toString(), mapper().map(obj, selectors).toString());
+  }
+
+  @Test
+  void map_selectors() {
+    var obj = new NodeImpl("root", new NodeImpl("leaf", null));
+
+    assertEquals("{\"child\":{\"name\":\"leaf\"},\"name\":\"root\"}",
+        mapper().map(obj, List.of(excludeProperties(Node.class, "class", "failing"))).toString());
+    assertEquals("{\"child\":{},\"name\":\"root\"}",
+        mapper().map(obj, List.of(includeProperties(Node.class, 1, "child", "name")))
+            .toString());
+  }
+
+  @Test
+  void write() throws IOException {
+    for (var keyComparator : List.of(Comparator.<String>naturalOrder(),
+        Comparator.<String>reverseOrder())) {
+      for (var selectors : List.of(List.<ModelMapper.PropertySelector>of(),
+          List.of(excludeProperties(Object.class, "class", "failing")),
+          List.of(includeProperties(Node.class, 2, "child", "items", "name")))) {
+        var expected = mapper(keyComparator).map(model(), selectors).toString();
+
+        var writer = new StringWriter();
+        mapper(keyComparator).write(model(), selectors, writer);
+
+        assertEquals(expected, writer.toString());
+      }
+    }
+  }
+
+  @Test
+  void write_duplicateKeys() throws IOException {
+    var obj = new Group("root", null);
+    obj.entries.put("a", "lower");
+    obj.entries.put("A", "upper");
+    var selectors = List.of(includeProperties(Node.class, 0, "entries"));
+    var expected = mapper(String.CASE_INSENSITIVE_ORDER).map(obj, selectors).toString();
+
+    var writer = new StringWriter();
+    mapper(String.CASE_INSENSITIVE_ORDER).write(obj, selectors, writer);
+
+    assertEquals(expected, writer.toString());
+    assertEquals(2, writer.toString().split("\"[aA]\":", -1).length - 1);
+  }
+
+  @Test
+  void write_streamedAccess() {
+    var mapper = mapper();
+    mapper.valueMappers.put(Node.class, ($obj, $selectors, $visitedObjs, $level) -> {
+      var ret = mapper.map($obj, $selectors, $visitedObjs, $level);
+      ret.put("extra", true);
+      return ret;
+    });
+    var obj = new NodeImpl("root", new NodeImpl("leaf", null));
+    var selectors = List.of(excludeProperties(Object.class, "class", "failing"));
+
+    // Tree-based mapping: the composition is available to the value mapper.
+    assertTrue(mapper.map(obj, selectors).getJSONObject("child").getBoolean("extra"));
+
+    // Streaming mapping: the composition has already been written.
+    assertThrows(IllegalStateException.class, () -> mapper.write(obj, selectors,
+        new StringWriter()));
+  }
+
+  @Test
+  void write_streamedReplaced() {
+    var mapper = mapper();
+    mapper.valueMappers.put(Node.class, ($obj, $selectors, $visitedObjs, $level) -> String.valueOf(
+        mapper.map($obj, $selectors, $visitedObjs, $level)));
+    var selectors = List.of(excludeProperties(Object.class, "class", "failing"));
+
+    // Item.
+    var itemsObj = new Group("root", null);
+    itemsObj.items.add(new NodeImpl("item", null));
+    assertThrows(IllegalStateException.class, () -> mapper.write(itemsObj, selectors,
+        new StringWriter()));
+
+    // Entry.
+    var entriesObj = new Group("root", null);
+    entriesObj.entries.put("a", new NodeImpl("entry", null));
+    assertThrows(IllegalStateException.class, () -> mapper.write(entriesObj, selectors,
+        new StringWriter()));
+  }
+
+  @Test
+  void writeAll() throws IOException {
+    var objs = List.<Node>of(model(), new NodeImpl("single", new NodeImpl("singleChild", null)));
+    var selectors = List.of(excludeProperties(Object.class, "class"));
+    var expected = mapper().mapAll(objs, selectors).toString();
+
+    var writer = new StringWriter();
+    mapper().writeAll(objs, selectors, writer);
+
+    assertEquals(expected, writer.toString());
+    assertTrue(expected.startsWith("[{"));
+  }
+}
@@ -0,0 +1,191 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (AbstractFlagSet.java) is part of pdfclown-common-util module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bitmask-backed flags.
+ * <p>
+ * Each flag is mapped to the bit at its {@linkplain Enum#ordinal() ordinal} position, so membership
+ * checks and updates are allocation-free bit operations.
+ * </p>
+ * <p>
+ * Iterators are weakly consistent: they never throw {@link java.util.ConcurrentModificationException
+ * ConcurrentModificationException} and may or may not reflect changes made after their creation.
+ * </p>
+ *
+ * @param <E>
+ *          Flag enum type.
+ * @author Stefano Chizzolini
+ */
+public abstract class AbstractFlagSet<E extends Enum<E> & Flag> extends AbstractSet<E>
+    implements FlagSet<E> {
+  private static final ClassValue<Enum<?>[]> universes = new ClassValue<>() {
+    @Override
+    protected Enum<?>[] computeValue(Class<?> type) {
+      return (Enum<?>[]) requireNonNull(type.getEnumConstants(), "`type`");
+    }
+  };
+
+  /**
+   * Gets the constants of the flag type.
+   * <p>
+   * NOTE: The returned array is shared, DO NOT modify it.
+   * </p>
+   */
+  @SuppressWarnings("unchecked")
+  static <E extends Enum<E>> E[] universe(Class<E> type) {
+    return (E[]) universes.get(type);
+  }
+
+  /**
+   * Flag type.
+   */
+  protected final Class<E> type;
+  /**
+   * Flag constants (indexed by bit position).
+   */
+  protected final E[] universe;
+
+  protected AbstractFlagSet(Class<E> type) {
+    this.type = requireNonNull(type, "`type`");
+    universe = universe(type);
+  }
+
+  @Override
+  public boolean add(E e) {
+    return update(bitOf(e), true);
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    int bit = find(o);
+    return bit >= 0 && test(bit);
+  }
+
+  /**
+   * Bitwise representation of these flags (that is, the union of their {@linkplain Flag#getCode()
+   * codes}).
+   */
+  public int getCode() {
+    int ret = 0;
+    for (int bit = nextBit(0); bit >= 0; bit = nextBit(bit + 1)) {
+      ret |= universe[bit].getCode();
+    }
+    return ret;
+  }
+
+  /**
+   * Flag type.
+   */
+  public Class<E> getType() {
+    return type;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return nextBit(0) < 0;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<>() {
+      int last = -1;
+      int next = nextBit(0);
+
+      @Override
+      public boolean hasNext() {
+        return next >= 0;
+      }
+
+      @Override
+      public E next() {
+        if (next < 0)
+          throw new NoSuchElementException();
+
+        last = next;
+        next = nextBit(next + 1);
+        return universe[last];
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0)
+          throw new IllegalStateException();
+
+        update(last, false);
+        last = -1;
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(@Nullable Object o) {
+    int bit = find(o);
+    return bit >= 0 && update(bit, false);
+  }
+
+  @Override
+  public void set(E flag, boolean enabled) {
+    update(bitOf(flag), enabled);
+  }
+
+  /**
+   * Gets the position of the first set bit at or after the position.
+   *
+   * @param fromBit
+   *          Least bit position (inclusive; may exceed the flag count).
+   * @return {@code -1}, if no set bit was found.
+   */
+  protected abstract int nextBit(int fromBit);
+
+  /**
+   * Gets whether the bit is set.
+   */
+  protected abstract boolean test(int bit);
+
+  /**
+   * Sets or clears the bit.
+   *
+   * @return Whether the bit changed.
+   */
+  protected abstract boolean update(int bit, boolean enabled);
+
+  /**
+   * Gets the bit position of the flag.
+   *
+   * @throws ClassCastException
+   *           if {@code flag} does not belong to the flag type.
+   */
+  private int bitOf(E flag) {
+    if (flag.getDeclaringClass() != type)
+      throw new ClassCastException(flag.getDeclaringClass().getName() + " != " + type.getName());
+
+    return flag.ordinal();
+  }
+
+  /**
+   * Gets the bit position of the object.
+   *
+   * @return {@code -1}, if {@code o} does not belong to the flag type.
+   */
+  private int find(@Nullable Object o) {
+    return o instanceof Enum<?> e && e.getDeclaringClass() == type ? e.ordinal() : -1;
+  }
+}
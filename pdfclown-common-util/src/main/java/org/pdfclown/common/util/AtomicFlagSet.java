@@ -0,0 +1,178 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (AtomicFlagSet.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util;
+
+import static org.pdfclown.common.util.Exceptions.wrongArg;
+import static org.pdfclown.common.util.Exceptions.wrongState;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe flags backed by a single {@code long} mask (up to 64 flags).
+ * <p>
+ * Updates are lock-free (compare-and-set on the mask), so concurrent threads can flip flags without
+ * blocking each other; bulk operations are atomic as a whole.
+ * </p>
+ *
+ * @param <E>
+ *          Flag enum type.
+ * @author Stefano Chizzolini
+ * @see LongFlagSet
+ */
+public class AtomicFlagSet<E extends Enum<E> & Flag> extends AbstractFlagSet<E> {
+  private static final VarHandle MASK;
+  static {
+    try {
+      MASK = MethodHandles.lookup().findVarHandle(AtomicFlagSet.class, "mask", long.class);
+    } catch (ReflectiveOperationException ex) {
+      throw wrongState(ex);
+    }
+  }
+
+  /**
+   * Mask of all the flags of {@link #type}.
+   */
+  private final long fullMask;
+
+  private volatile long mask;
+
+  /**
+   * @throws ArgumentException
+   *           if {@code type} has more than 64 constants.
+   */
+  public AtomicFlagSet(Class<E> type) {
+    super(type);
+
+    fullMask = LongFlagSet.fullMask(type, universe.length);
+  }
+
+  /**
+   * @param mask
+   *          Initial mask (bit positions correspond to {@linkplain Enum#ordinal() flag ordinals}).
+   * @throws ArgumentException
+   *           if {@code type} has more than 64 constants, or {@code mask} has bits beyond them.
+   */
+  public AtomicFlagSet(Class<E> type, long mask) {
+    this(type);
+
+    setMask(mask);
+  }
+
+  @Override
+  public void clear() {
+    mask = 0;
+  }
+
+  /**
+   * Atomically replaces the mask, if it matches the expected one.
+   *
+   * @return Whether the mask was replaced.
+   * @throws ArgumentException
+   *           if {@code newMask} has bits beyond the flag constants.
+   */
+  public boolean compareAndSetMask(long expectedMask, long newMask) {
+    return MASK.compareAndSet(this, expectedMask, checkMask(newMask));
+  }
+
+  /**
+   * Atomically sets the flags of the mask.
+   *
+   * @return Previous mask.
+   * @throws ArgumentException
+   *           if {@code mask} has bits beyond the flag constants.
+   */
+  public long getAndAddMask(long mask) {
+    return (long) MASK.getAndBitwiseOr(this, checkMask(mask));
+  }
+
+  /**
+   * Atomically clears the flags of the mask.
+   *
+   * @return Previous mask.
+   */
+  public long getAndRemoveMask(long mask) {
+    return (long) MASK.getAndBitwiseAnd(this, ~mask);
+  }
+
+  /**
+   * Atomically clears the flags outside the mask.
+   *
+   * @return Previous mask.
+   */
+  public long getAndRetainMask(long mask) {
+    return (long) MASK.getAndBitwiseAnd(this, mask);
+  }
+
+  /**
+   * Atomically replaces the mask.
+   *
+   * @return Previous mask.
+   * @throws ArgumentException
+   *           if {@code mask} has bits beyond the flag constants.
+   */
+  public long getAndSetMask(long mask) {
+    return (long) MASK.getAndSet(this, checkMask(mask));
+  }
+
+  /**
+   * Current mask (bit positions correspond to {@linkplain Enum#ordinal() flag ordinals}).
+   */
+  public long getMask() {
+    return mask;
+  }
+
+  /**
+   * Replaces the mask.
+   *
+   * @throws ArgumentException
+   *           if {@code mask} has bits beyond the flag constants.
+   */
+  public void setMask(long mask) {
+    this.mask = checkMask(mask);
+  }
+
+  @Override
+  public int size() {
+    return Long.bitCount(mask);
+  }
+
+  @Override
+  protected int nextBit(int fromBit) {
+    if (fromBit >= Long.SIZE)
+      return -1;
+
+    long bits = mask & (-1L << fromBit);
+    return bits != 0 ? Long.numberOfTrailingZeros(bits) : -1;
+  }
+
+  @Override
+  protected boolean test(int bit) {
+    return (mask & (1L << bit)) != 0;
+  }
+
+  @Override
+  protected boolean update(int bit, boolean enabled) {
+    long bitMask = 1L << bit;
+    return enabled
+        ? ((long) MASK.getAndBitwiseOr(this, bitMask) & bitMask) == 0
+        : ((long) MASK.getAndBitwiseAnd(this, ~bitMask) & bitMask) != 0;
+  }
+
+  private long checkMask(long mask) {
+    if ((mask & ~fullMask) != 0)
+      throw wrongArg("mask", Long.toBinaryString(mask), "bits beyond {} flags", universe.length);
+
+    return mask;
+  }
+}
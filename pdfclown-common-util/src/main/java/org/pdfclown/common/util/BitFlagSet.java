@@ -0,0 +1,167 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (BitFlagSet.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flags backed by a multi-word mask (any number of flags).
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @param <E>
+ *          Flag enum type.
+ * @author Stefano Chizzolini
+ * @see LongFlagSet
+ */
+public class BitFlagSet<E extends Enum<E> & Flag> extends AbstractFlagSet<E> {
+  /**
+   * Mask words (bit {@code i} is at bit {@code i % 64} of word {@code i / 64}).
+   */
+  private final long[] words;
+
+  public BitFlagSet(Class<E> type) {
+    super(type);
+
+    words = new long[(universe.length + Long.SIZE - 1) / Long.SIZE];
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    if (c instanceof BitFlagSet<?> that && that.type == type) {
+      boolean ret = false;
+      for (int i = 0; i < words.length; i++) {
+        long oldWord = words[i];
+        if ((words[i] |= that.words[i]) != oldWord) {
+          ret = true;
+        }
+      }
+      return ret;
+    }
+
+    return super.addAll(c);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(words, 0L);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c instanceof BitFlagSet<?> that && that.type == type) {
+      for (int i = 0; i < words.length; i++) {
+        if ((words[i] & that.words[i]) != that.words[i])
+          return false;
+      }
+      return true;
+    }
+
+    return super.containsAll(c);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o instanceof BitFlagSet<?> that && that.type == type)
+      return Arrays.equals(words, that.words);
+
+    return super.equals(o);
+  }
+
+  /**
+   * Current mask words (bit {@code i} is at bit {@code i % 64} of word {@code i / 64}).
+   *
+   * @return Copy of the mask words.
+   */
+  public long[] getMask() {
+    return words.clone();
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (c instanceof BitFlagSet<?> that && that.type == type) {
+      boolean ret = false;
+      for (int i = 0; i < words.length; i++) {
+        long oldWord = words[i];
+        if ((words[i] &= ~that.words[i]) != oldWord) {
+          ret = true;
+        }
+      }
+      return ret;
+    }
+
+    return super.removeAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (c instanceof BitFlagSet<?> that && that.type == type) {
+      boolean ret = false;
+      for (int i = 0; i < words.length; i++) {
+        long oldWord = words[i];
+        if ((words[i] &= that.words[i]) != oldWord) {
+          ret = true;
+        }
+      }
+      return ret;
+    }
+
+    return super.retainAll(c);
+  }
+
+  @Override
+  public int size() {
+    int ret = 0;
+    for (long word : words) {
+      ret += Long.bitCount(word);
+    }
+    return ret;
+  }
+
+  @Override
+  protected int nextBit(int fromBit) {
+    int i = fromBit >>> 6;
+    if (i >= words.length)
+      return -1;
+
+    long bits = words[i] & (-1L << fromBit);
+    while (bits == 0) {
+      if (++i == words.length)
+        return -1;
+
+      bits = words[i];
+    }
+    return i * Long.SIZE + Long.numberOfTrailingZeros(bits);
+  }
+
+  @Override
+  protected boolean test(int bit) {
+    return (words[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  @Override
+  protected boolean update(int bit, boolean enabled) {
+    int i = bit >>> 6;
+    long oldWord = words[i];
+    words[i] = enabled ? oldWord | (1L << bit) : oldWord & ~(1L << bit);
+    return words[i] != oldWord;
+  }
+}
@@ -22,6 +22,19 @@ import org.pdfclown.common.util.collect.XtSet;
  * @author Stefano Chizzolini
  */
 public interface FlagSet<E extends Flag> extends XtSet<E> {
+  /**
+   * Creates an empty mutable set of flags, backed by a bitmask.
+   *
+   * @param type
+   *          Flag enum type.
+   * @return {@link LongFlagSet}, if {@code type} has at most 64 constants; otherwise,
+   *         {@link BitFlagSet}.
+   */
+  static <E extends Enum<E> & Flag> AbstractFlagSet<E> noneOf(Class<E> type) {
+    return AbstractFlagSet.universe(type).length <= Long.SIZE ? new LongFlagSet<>(type)
+        : new BitFlagSet<>(type);
+  }
+
   /**
    * Sets the flag.
    *
@@ -0,0 +1,205 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (LongFlagSet.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util;
+
+import static org.pdfclown.common.util.Exceptions.wrongArg;
+
+import java.util.Collection;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flags backed by a single {@code long} mask (up to 64 flags).
+ * <p>
+ * Not thread-safe (see {@link AtomicFlagSet} for lock-free concurrent access).
+ * </p>
+ *
+ * @param <E>
+ *          Flag enum type.
+ * @author Stefano Chizzolini
+ * @see BitFlagSet
+ */
+public class LongFlagSet<E extends Enum<E> & Flag> extends AbstractFlagSet<E> {
+  /**
+   * Gets the mask of all the flags of the type.
+   *
+   * @throws ArgumentException
+   *           if {@code type} has more than 64 constants.
+   */
+  static long fullMask(Class<? extends Enum<?>> type, int count) {
+    if (count > Long.SIZE)
+      throw wrongArg("type", type, "MUST have at most {} constants (actual: {})", Long.SIZE, count);
+
+    return count == Long.SIZE ? -1L : (1L << count) - 1;
+  }
+
+  /**
+   * Mask of all the flags of {@link #type}.
+   */
+  private final long fullMask;
+
+  private long mask;
+
+  /**
+   * @throws ArgumentException
+   *           if {@code type} has more than 64 constants.
+   */
+  public LongFlagSet(Class<E> type) {
+    super(type);
+
+    fullMask = fullMask(type, universe.length);
+  }
+
+  /**
+   * @param mask
+   *          Initial mask (bit positions correspond to {@linkplain Enum#ordinal() flag ordinals}).
+   * @throws ArgumentException
+   *           if {@code type} has more than 64 constants, or {@code mask} has bits beyond them.
+   */
+  public LongFlagSet(Class<E> type, long mask) {
+    this(type);
+
+    setMask(mask);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    if (c instanceof LongFlagSet<?> that && that.type == type)
+      return addMask(that.mask);
+
+    return super.addAll(c);
+  }
+
+  /**
+   * Sets the flags of the mask.
+   *
+   * @return Whether these flags changed.
+   * @throws ArgumentException
+   *           if {@code mask} has bits beyond the flag constants.
+   */
+  public boolean addMask(long mask) {
+    long oldMask = this.mask;
+    return (this.mask |= checkMask(mask)) != oldMask;
+  }
+
+  @Override
+  public void clear() {
+    mask = 0;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c instanceof LongFlagSet<?> that && that.type == type)
+      return (mask & that.mask) == that.mask;
+
+    return super.containsAll(c);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o instanceof LongFlagSet<?> that && that.type == type)
+      return mask == that.mask;
+
+    return super.equals(o);
+  }
+
+  /**
+   * Current mask (bit positions correspond to {@linkplain Enum#ordinal() flag ordinals}).
+   */
+  public long getMask() {
+    return mask;
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (c instanceof LongFlagSet<?> that && that.type == type)
+      return removeMask(that.mask);
+
+    return super.removeAll(c);
+  }
+
+  /**
+   * Clears the flags of the mask.
+   *
+   * @return Whether these flags changed.
+   */
+  public boolean removeMask(long mask) {
+    long oldMask = this.mask;
+    return (this.mask &= ~mask) != oldMask;
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (c instanceof LongFlagSet<?> that && that.type == type)
+      return retainMask(that.mask);
+
+    return super.retainAll(c);
+  }
+
+  /**
+   * Clears the flags outside the mask.
+   *
+   * @return Whether these flags changed.
+   */
+  public boolean retainMask(long mask) {
+    long oldMask = this.mask;
+    return (this.mask &= mask) != oldMask;
+  }
+
+  /**
+   * Replaces the mask.
+   *
+   * @throws ArgumentException
+   *           if {@code mask} has bits beyond the flag constants.
+   */
+  public void setMask(long mask) {
+    this.mask = checkMask(mask);
+  }
+
+  @Override
+  public int size() {
+    return Long.bitCount(mask);
+  }
+
+  @Override
+  protected int nextBit(int fromBit) {
+    if (fromBit >= Long.SIZE)
+      return -1;
+
+    long bits = mask & (-1L << fromBit);
+    return bits != 0 ? Long.numberOfTrailingZeros(bits) : -1;
+  }
+
+  @Override
+  protected boolean test(int bit) {
+    return (mask & (1L << bit)) != 0;
+  }
+
+  @Override
+  protected boolean update(int bit, boolean enabled) {
+    long oldMask = mask;
+    mask = enabled ? oldMask | (1L << bit) : oldMask & ~(1L << bit);
+    return mask != oldMask;
+  }
+
+  private long checkMask(long mask) {
+    if ((mask & ~fullMask) != 0)
+      throw wrongArg("mask", Long.toBinaryString(mask), "bits beyond {} flags", universe.length);
+
+    return mask;
+  }
+}
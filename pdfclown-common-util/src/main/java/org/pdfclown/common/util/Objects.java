@@ -51,6 +51,12 @@ import io.github.classgraph.ScanResult;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serial;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
@@ -61,7 +67,9 @@ import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -70,6 +78,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -97,6 +107,7 @@ import org.jspecify.annotations.Nullable;
 import org.pdfclown.common.util.annot.PolyNull;
 import org.pdfclown.common.util.collect.Comparators;
 import org.pdfclown.common.util.collect.Comparators.HierarchicalTypeComparator;
+import org.pdfclown.common.util.reflect.TypeIndex;
 import org.pdfclown.common.util.regex.Patterns;
 import org.pdfclown.common.util.stream.Streams;
 
@@ -150,16 +161,227 @@ public final class Objects {
     }
   }
 
-  static class ProxySpace {
+  /**
+   * {@link #superTypes(Class, HierarchicalTypeComparator, Set, boolean) superTypes(..)} criteria.
+   *
+   * @param stoppers
+   *          Stoppers among the ancestors of the type (other stoppers cannot affect its traversal).
+   */
+  @SuppressWarnings("rawtypes")
+  private record SuperTypesKey(Set<Class> stoppers, boolean stopperExclusive) {
+  }
+
+  /**
+   * Dispatch of a proxy method to its source methods.
+   * <p>
+   * Thread-safe. Resolved handles are bound to the source types they were resolved for; the last
+   * one is kept at hand, as each proxy method is usually invoked on a single source type.
+   * </p>
+   */
+  private static final class ProxyDispatch {
+    /**
+     * Source method handle, bound to its source type.
+     */
+    private record Binding(Class<?> baseType, MethodHandle handle) {
+    }
+
+    private volatile @Nullable Binding binding;
+    private final ConcurrentMap<Class<?>, MethodHandle> handles = new ConcurrentHashMap<>();
+    private final Method method;
+    private final Class<?> proxiedType;
+
+    ProxyDispatch(Method method, Class<?> proxiedType) {
+      this.method = method;
+      this.proxiedType = proxiedType;
+    }
+
+    /**
+     * Gets the source method handle (see {@link #proxyDispatch(Class, Method, Class)}).
+     */
+    MethodHandle handle(Class<?> baseType) {
+      var binding = this.binding;
+      if (binding != null && binding.baseType == baseType)
+        return binding.handle;
+
+      var ret = handles.computeIfAbsent(baseType, $ -> proxyDispatch($, method, proxiedType));
+      this.binding = new Binding(baseType, ret);
+      return ret;
+    }
+  }
+
+  /**
+   * Dispatch table of a proxy type.
+   * <p>
+   * Thread-safe. Dispatches are resolved once per proxy method, then looked up by identity (the
+   * invocation handler receives the proxy methods as instances cached by their proxy type), so
+   * proxied calls allocate nothing.
+   * </p>
+   */
+  private static final class ProxyDispatchTable {
+    /**
+     * Source instance accessor, of type {@code (Object proxy)Object}.
+     */
+    final MethodHandle baseGetter;
+
+    private volatile Map<Method, ProxyDispatch> dispatches = new IdentityHashMap<>();
+    private final Class<?> proxiedType;
+
+    ProxyDispatchTable(Class<?> proxyType) {
+      try {
+        baseGetter = MethodHandles.publicLookup().findGetter(proxyType, "proxyBase", Object.class)
+            .asType(MethodType.methodType(Object.class, Object.class));
+      } catch (ReflectiveOperationException ex) {
+        throw runtime(ex);
+      }
+      proxiedType = proxiedType(proxyType);
+    }
+
+    ProxyDispatch get(Method method) {
+      var ret = dispatches.get(method);
+      if (ret == null) {
+        synchronized (this) {
+          // Copy on write, so lookups never lock.
+          var dispatches = new IdentityHashMap<>(this.dispatches);
+          ret = dispatches.computeIfAbsent(method, $ -> new ProxyDispatch($, proxiedType));
+          this.dispatches = dispatches;
+        }
+      }
+      return ret;
+    }
+  }
+
+  /**
+   * Proxy registry of a target class loader.
+   * <p>
+   * Thread-safe. Each class loader has its own space, so cross-casts to different class loaders
+   * don't contend with each other.
+   * </p>
+   */
+  static final class ProxySpace {
     /**
      * Proxy instances by source instance.
+     * <p>
+     * Proxies are weakly referenced, as they strongly refer to their source instance (which would
+     * otherwise never be reclaimed).
+     * </p>
      */
-    final Map<Object, Object> instances = new WeakHashMap<>();
+    final WeakIdentityMap<Object, WeakReference<Object>> instances = new WeakIdentityMap<>();
+
     /**
-     * Proxy types by fully-qualified name.
+     * Associates the proxy to its source instance.
+     *
+     * @return Proxy associated to {@code obj} (in case of concurrent registrations, the first live
+     *         one wins).
      */
-    @SuppressWarnings("rawtypes")
-    final Map<String, Class> types = new HashMap<>();
+    Object register(Object obj, Object proxy) {
+      var newRef = new WeakReference<>(proxy);
+      WeakReference<Object> ref;
+      while ((ref = instances.putIfAbsent(obj, newRef)) != null) {
+        Object ret = ref.get();
+        if (ret != null)
+          return ret;
+        else if (instances.replace(obj, ref, newRef))
+          break;
+      }
+      return proxy;
+    }
+  }
+
+  /**
+   * Proxy type of a target type, generated on first request.
+   */
+  static final class ProxyTypeSlot {
+    private volatile @Nullable Class<?> type;
+
+    /**
+     * Gets the proxy type.
+     *
+     * @param factory
+     *          Proxy type generator (applied at most once).
+     */
+    Class<?> get(Supplier<Class<?>> factory) {
+      Class<?> ret = type;
+      if (ret == null) {
+        synchronized (this) {
+          if ((ret = type) == null) {
+            type = ret = factory.get();
+          }
+        }
+      }
+      return ret;
+    }
+  }
+
+  /**
+   * Concurrent map with weak identity keys.
+   * <p>
+   * Entries whose key has been reclaimed are expunged on access.
+   * </p>
+   */
+  static final class WeakIdentityMap<K, V> {
+    private static final class Key<K> extends WeakReference<K> {
+      final int hash;
+
+      Key(K referent, @Nullable ReferenceQueue<? super K> queue) {
+        super(referent, queue);
+
+        hash = System.identityHashCode(referent);
+      }
+
+      @Override
+      public boolean equals(@Nullable Object o) {
+        if (o == this)
+          return true;
+
+        Object referent;
+        return o instanceof Key<?> that && (referent = get()) != null && referent == that.get();
+      }
+
+      @Override
+      public int hashCode() {
+        return hash;
+      }
+    }
+
+    private final Map<Key<K>, V> base = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+      V ret = get(key);
+      return ret != null ? ret
+          : base.computeIfAbsent(new Key<>(key, queue), $k -> mappingFunction.apply(key));
+    }
+
+    @Nullable
+    V get(K key) {
+      expunge();
+
+      return base.get(new Key<>(key, null));
+    }
+
+    @Nullable
+    V putIfAbsent(K key, V value) {
+      expunge();
+
+      return base.putIfAbsent(new Key<>(key, queue), value);
+    }
+
+    boolean replace(K key, V oldValue, V newValue) {
+      return base.replace(new Key<>(key, null), oldValue, newValue);
+    }
+
+    int size() {
+      expunge();
+
+      return base.size();
+    }
+
+    private void expunge() {
+      Reference<?> ref;
+      while ((ref = queue.poll()) != null) {
+        base.remove(ref);
+      }
+    }
   }
 
   /**
@@ -225,7 +447,95 @@ public final class Objects {
       String.class,
       Void.class);
 
-  private static final Map<ClassLoader, ProxySpace> proxySpaces = new WeakHashMap<>();
+  /**
+   * Proxy spaces by target class loader.
+   */
+  private static final WeakIdentityMap<ClassLoader, ProxySpace> proxySpaces =
+      new WeakIdentityMap<>();
+  /**
+   * Proxy space of the bootstrap class loader.
+   */
+  private static final ProxySpace bootstrapProxySpace = new ProxySpace();
+  /**
+   * Proxy types by target type.
+   * <p>
+   * Bound to their target type via {@link ClassValue}, so they live as long as their target type
+   * (that is, as long as its class loader), without keeping it alive.
+   * </p>
+   */
+  private static final ClassValue<ProxyTypeSlot> proxyTypes = new ClassValue<>() {
+    @Override
+    protected ProxyTypeSlot computeValue(Class<?> type) {
+      return new ProxyTypeSlot();
+    }
+  };
+  /**
+   * Proxy dispatch tables by proxy type.
+   * <p>
+   * Bound to their proxy type via {@link ClassValue}, so their references to the target context
+   * (proxy methods, proxied type) live as long as the proxy type itself (see {@link #proxyTypes}),
+   * whereas source types never retain them.
+   * </p>
+   */
+  private static final ClassValue<ProxyDispatchTable> proxyDispatchTables =
+      new ClassValue<>() {
+        @Override
+        protected ProxyDispatchTable computeValue(Class<?> type) {
+          return new ProxyDispatchTable(type);
+        }
+      };
+  /**
+   * Invocation handler shared by all proxy types.
+   * <p>
+   * Delegates the invocation to the source object associated to the proxy instance.
+   * </p>
+   */
+  private static final InvocationHandler proxyHandler = (proxy, method, args) -> {
+    var dispatchTable = proxyDispatchTables.get(proxy.getClass());
+    var base = (Object) dispatchTable.baseGetter.invokeExact(proxy);
+    return (Object) dispatchTable.get(method).handle(base.getClass()).invokeExact(base, args);
+  };
+  /**
+   * {@link #xcast(Object, Object, Class)} handle.
+   */
+  private static final MethodHandle XCAST;
+  static {
+    try {
+      XCAST = MethodHandles.lookup().findStatic(Objects.class, "xcast",
+          MethodType.methodType(Object.class, Object.class, Object.class, Class.class));
+    } catch (ReflectiveOperationException ex) {
+      throw runtime(ex);
+    }
+  }
+
+  /**
+   * Type ancestors, unordered and unstopped.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final ClassValue<Class[]> ancestorTypes = new ClassValue<>() {
+    @Override
+    protected Class[] computeValue(Class<?> type) {
+      return collectSuperTypes(type, new HashSet<>(), Set.of(), false);
+    }
+  };
+
+  /**
+   * Memoized type ancestors.
+   * <p>
+   * Bound to their type via {@link ClassValue} (so they are discarded along with their class),
+   * then keyed by comparator (weakly, as comparators may refer to foreign types) and traversal
+   * criteria.
+   * </p>
+   */
+  @SuppressWarnings("rawtypes")
+  private static final ClassValue<Map<HierarchicalTypeComparator,
+      Map<SuperTypesKey, Class[]>>> memoizedSuperTypes = new ClassValue<>() {
+        @Override
+        protected Map<HierarchicalTypeComparator, Map<SuperTypesKey, Class[]>> computeValue(
+            Class<?> type) {
+          return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+      };
 
   private static final String TO_STRING_CLOSE = S + SQUARE_BRACKET_CLOSE;
   private static final String TO_STRING_OPEN = S + SQUARE_BRACKET_OPEN;
@@ -1291,6 +1601,11 @@ public final class Objects {
 
   /**
    * Gets type descendants available on a classpath.
+   * <p>
+   * Descendants are collected at any depth; those of an interface comprise its sub-interfaces too
+   * (as {@link ScanResult#getClassesImplementing(Class)} includes them), along with their
+   * implementations — same as {@link #subTypes(Class, TypeIndex)}.
+   * </p>
    *
    * @param type
    *          Type (either class or interface) whose descendants are searched.
@@ -1307,6 +1622,24 @@ public final class Objects {
             .map($ -> $.asSubclass(type));
   }
 
+  /**
+   * Gets type descendants available on a classpath.
+   * <p>
+   * Unlike {@link #subTypes(Class, ScanResult)}, the query is served by a persistent index, with
+   * no classpath scan; the result is the same (sub-interfaces included).
+   * </p>
+   *
+   * @param type
+   *          Type (either class or interface) whose descendants are searched.
+   * @param context
+   *          Classpath context where to search the descendants (see
+   *          {@link #types(ClassLoader, Path)}).
+   * @see #superTypes(Class)
+   */
+  public static <T> Stream<Class<? extends T>> subTypes(Class<T> type, TypeIndex context) {
+    return context.subTypes(type);
+  }
+
   /**
    * Gets type ancestors, ordered by {@linkplain Comparators#hierarchicalType() default comparator}.
    *
@@ -1335,6 +1668,14 @@ public final class Objects {
 
   /**
    * Gets type ancestors, ordered by a comparator.
+   * <p>
+   * Ancestors are collected and sorted once per type, comparator and stop criteria (only the
+   * stoppers among the ancestors of {@code type} are relevant), then memoized (for as long as both
+   * the type and the comparator are reachable); therefore, {@code comparator} MUST NOT change its
+   * ordering after its first use: comparators based on mutable criteria (such as
+   * {@link Comparators.HierarchicalTypeComparator.Priorities.TypePriorityComparator}) should be
+   * rebuilt on a snapshot of their criteria whenever they change.
+   * </p>
    *
    * @param type
    *          Type (either class or interface) whose ancestors are searched.
@@ -1348,21 +1689,22 @@ public final class Objects {
   @SuppressWarnings("rawtypes")
   public static Stream<Class> superTypes(Class type, HierarchicalTypeComparator comparator,
       Set<Class> stoppers, boolean stopperExclusive) {
-    var ret = new TreeSet<>(comparator);
-
-    // 1. Interfaces related to `type`.
-    for (var e : type.getInterfaces()) {
-      collectTypeAndAncestorInterfaces(e, ret, stoppers, stopperExclusive);
-    }
-
-    // 2. Ancestor concrete types and related interfaces.
-    Class superType = type;
-    //noinspection StatementWithEmptyBody
-    while ((superType = superType.getSuperclass()) != null
-        && collectTypeAndAncestorInterfaces(superType, ret, stoppers, stopperExclusive)) {
-      // NOP
+    Set<Class> typeStoppers;
+    if (stoppers.isEmpty()) {
+      typeStoppers = Set.of();
+    } else {
+      typeStoppers = new HashSet<>();
+      for (var e : ancestorTypes.get(type)) {
+        if (stoppers.contains(e)) {
+          typeStoppers.add(e);
+        }
+      }
     }
-    return ret.stream();
+    return Stream.of(memoizedSuperTypes.get(type)
+        .computeIfAbsent(comparator, $ -> new ConcurrentHashMap<>())
+        .computeIfAbsent(new SuperTypesKey(typeStoppers, stopperExclusive),
+            $ -> collectSuperTypes(type, new TreeSet<>(comparator), $.stoppers(),
+                $.stopperExclusive())));
   }
 
   /**
@@ -1968,6 +2310,22 @@ public final class Objects {
         .scan();
   }
 
+  /**
+   * Gets the index of the types available on the classpath accessible from a class loader.
+   * <p>
+   * Same as {@link #types(ClassLoader)}, except that the scanned type hierarchy is persisted to
+   * {@code indexFile}, so subsequent calls (even across application runs) rescan only the classpath
+   * elements which changed in the meantime.
+   * </p>
+   *
+   * @param indexFile
+   *          File where the index is stored.
+   * @see #subTypes(Class, TypeIndex)
+   */
+  public static TypeIndex types(ClassLoader loader, Path indexFile) {
+    return TypeIndex.of(loader, indexFile);
+  }
+
   /**
    * Cross-casts an object to the caller's {@linkplain ClassLoader class loader}. {@jada.reuseDoc}
    * <p>
@@ -2019,6 +2377,10 @@ public final class Objects {
    *          loader).
    * @throws ClassXCastException
    *           if {@code obj} has no corresponding type in target class loader context.
+   * @implNote Thread-safe. Proxies are cached per target class loader without retaining either
+   *           their source objects or their class loaders; each proxy type is generated at most
+   *           once per target type, and kept as long as its class loader. Proxy methods are bound
+   *           to their source methods on first invocation, then dispatched directly.
    * @see #xflat(Object)
    * @see #xinstanceof(Object, Class)
    */
@@ -2083,6 +2445,31 @@ public final class Objects {
     return type.isAssignableFrom(xbaseType);
   }
 
+  /**
+   * Collects type ancestors.
+   *
+   * @param ret
+   *          Target set (its iteration order determines the order of the returned ancestors).
+   * @see #superTypes(Class, HierarchicalTypeComparator, Set, boolean)
+   */
+  @SuppressWarnings("rawtypes")
+  private static Class[] collectSuperTypes(Class type, Set<Class> ret, Set<Class> stoppers,
+      boolean stopperExclusive) {
+    // 1. Interfaces related to `type`.
+    for (var e : type.getInterfaces()) {
+      collectTypeAndAncestorInterfaces(e, ret, stoppers, stopperExclusive);
+    }
+
+    // 2. Ancestor concrete types and related interfaces.
+    Class superType = type;
+    //noinspection StatementWithEmptyBody
+    while ((superType = superType.getSuperclass()) != null
+        && collectTypeAndAncestorInterfaces(superType, ret, stoppers, stopperExclusive)) {
+      // NOP
+    }
+    return ret.toArray(new Class[0]);
+  }
+
   /**
    * Recursively collects a type and its interfaces until stopped.
    * <p>
@@ -2280,159 +2667,115 @@ public final class Objects {
     else if (objType == type(objType.getName(), targetLoader))
       return (T) obj;
 
-    var proxySpace = proxySpaces.computeIfAbsent(targetLoader, $k -> new ProxySpace());
+    var proxySpace = targetLoader != null
+        ? proxySpaces.computeIfAbsent(targetLoader, $k -> new ProxySpace())
+        : bootstrapProxySpace;
 
     // Map the incompatible source object to proxy!
-    var ret = (T) proxySpace.instances.get(obj);
-    if (ret != null)
+    var ref = proxySpace.instances.get(obj);
+    T ret;
+    if (ref != null && (ret = (T) ref.get()) != null)
       return ret;
 
-    var proxyType = proxySpace.types.get(objType.getName());
-    if (proxyType == null) {
-      final String fqn;
-      final Class<?> targetType;
-      {
-        // Find type suitable for proxying!
-        if (isAutoInstantiable(objType)) {
-          fqn = objType.getName();
-        } else if (targetTypeHint != null && targetTypeHint != Object.class
-            && isAutoInstantiable(targetTypeHint)) {
-          fqn = targetTypeHint.getName();
-        } else {
-          /*
-           * HACK: This ugly block was added to work around the notorious type erasure of return
-           * types of generic methods.
-           *
-           * TODO: See <https://github.com/raphw/byte-buddy/issues/1725> to implement a more robust
-           * solution; in particular, this hint
-           * (<https://github.com/raphw/byte-buddy/issues/1725#issuecomment-2464707817>):
-           *
-           * " Simply load a class using `TypeDescription.ForLoadedType.of(...)`. Then navigate the
-           * hierarchy as you would with the reflection API where generic types are resolved
-           * transparently. To resolve the return type of methods, use `MethodGraph.Compiler`. "
-           */
-          var t = objType;
-          Class<?> altType = null;
-          while (t != Object.class) {
-            var altTypes = t.getInterfaces();
-            if (altTypes.length > 0) {
-              altType = altTypes[0];
-              break;
-            }
-
-            t = t.getSuperclass();
+    final String fqn;
+    final Class<?> targetType;
+    {
+      // Find type suitable for proxying!
+      if (isAutoInstantiable(objType)) {
+        fqn = objType.getName();
+      } else if (targetTypeHint != null && targetTypeHint != Object.class
+          && isAutoInstantiable(targetTypeHint)) {
+        fqn = targetTypeHint.getName();
+      } else {
+        /*
+         * HACK: This ugly block was added to work around the notorious type erasure of return
+         * types of generic methods.
+         *
+         * TODO: See <https://github.com/raphw/byte-buddy/issues/1725> to implement a more robust
+         * solution; in particular, this hint
+         * (<https://github.com/raphw/byte-buddy/issues/1725#issuecomment-2464707817>):
+         *
+         * " Simply load a class using `TypeDescription.ForLoadedType.of(...)`. Then navigate the
+         * hierarchy as you would with the reflection API where generic types are resolved
+         * transparently. To resolve the return type of methods, use `MethodGraph.Compiler`. "
+         */
+        var t = objType;
+        Class<?> altType = null;
+        while (t != Object.class) {
+          var altTypes = t.getInterfaces();
+          if (altTypes.length > 0) {
+            altType = altTypes[0];
+            break;
           }
-          if (altType == null)
-            throw new ClassXCastException("""
-                `%s` cannot be proxied (no-argument constructor missing and `targetTypeHint` \
-                undefined)""".formatted(objType.getName()));
 
-          fqn = altType.getName();
+          t = t.getSuperclass();
         }
-        /*
-         * NOTE: `fqn` may NOT exist in `targetLoader` context; in such case, `targetTypeHint`
-         * provides the alternate target type. For example, an application may define the method
-         * `move(Vehicle)`, while a plugin (loaded in its own class loader context) may define
-         * `Bike` as a subclass of `Vehicle`: if the plugin calls `myMethod(..)` passing an instance
-         * of `Bike`, such type will be invisible to the application; it will be `targetTypeHint` to
-         * provide `Vehicle` as an alternate.
-         */
-        targetType = requireNonNullElse(type(fqn, targetLoader), targetTypeHint);
-      }
+        if (altType == null)
+          throw new ClassXCastException("""
+              `%s` cannot be proxied (no-argument constructor missing and `targetTypeHint` \
+              undefined)""".formatted(objType.getName()));
 
-      proxyType = proxySpace.types.computeIfAbsent(fqn,
-          $typeKey -> {
-            try {
-              return new ByteBuddy()
-                  .subclass(targetType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
-                  // Fields
-                  .defineField("proxyBase", Object.class, Modifier.PUBLIC + Modifier.FINAL)
-                  // Constructors
-                  .defineConstructor(Visibility.PUBLIC)
-                  .withParameters(Object.class)
-                  .intercept(MethodCall.invoke(
-                      (!targetType.isInterface() ? targetType : Object.class)
-                          .getDeclaredConstructor())
-                      .onSuper()
-                      .andThen(FieldAccessor.ofField("proxyBase").setsArgumentAt(0)))
-                  // Methods
-                  .method(ElementMatchers.any())
-                  .intercept(InvocationHandlerAdapter.of(new InvocationHandler() {
-                    @Override
-                    public @Nullable Object invoke(Object proxy, Method method, Object[] args)
-                        throws Throwable {
-                      // Retrieve the source object associated to this proxy instance!
-                      var base = proxy.getClass().getDeclaredField("proxyBase").get(proxy);
-                      var baseType = base.getClass();
-
-                      /*
-                       * Get the source method corresponding to the invoked proxy method!
-                       *
-                       * NOTE: (target) `method` is binary-incompatible with (source) `base`, so its
-                       * argument types must be cross-cast to their base counterparts in order to
-                       * find a matching method signature in `baseType`.
-                       */
-                      Class<?>[] baseParamTypes = xcastArray(method.getParameterTypes(), baseType,
-                          null);
-                      Method baseMethod = null;
-                      try {
-                        baseMethod = baseType.getMethod(method.getName(), baseParamTypes);
-                      } catch (Exception ex) {
-                        /*
-                         * NOTE: No matching public method found, so we have to hack through the
-                         * non-public interface, hoping for the best.
-                         */
-                        var type = baseType;
-                        do {
-                          try {
-                            baseMethod = type.getDeclaredMethod(method.getName(), baseParamTypes);
-                            break;
-                          } catch (Exception ex1) {
-                            // NOP
-                          }
-                        } while ((type = type.getSuperclass()) != null);
-                        if (baseMethod == null)
-                          throw runtime("Base method NOT FOUND", ex);
-
-                        baseMethod.setAccessible(true);
-                      }
-
-                      /*
-                       * Delegate the invocation to the source object!
-                       *
-                       * NOTE: Return value is cross-cast in turn, to ensure any binary-incompatible
-                       * type is encapsulated into its own proxy.
-                       */
-                      Object[] baseArgs = xcastArray(args, baseType, baseParamTypes);
-                      return xcast(baseMethod.invoke(base, baseArgs), targetType,
-                          method.getReturnType());
-                    }
-                  }))
-                  .make()
-                  .load(targetType.getClassLoader())
-                  /*
-                   * TODO: Injection sometimes fails (for example, if debugging Jada on a JPMS
-                   * project. Remove if unsolvable.
-                   */
-                  //.load(targetType.getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
-                  .getLoaded();
-            } catch (Exception ex) {
-              var b = new StringBuilder("Proxy type `").append(fqn).append("` creation FAILED");
-              if (!fqn.equals(targetType.getName())) {
-                b.append(" (targetType: ").append(targetType.getName()).append(")");
-              }
-              throw new ClassXCastException(b.toString(), ex);
-            }
-          });
+        fqn = altType.getName();
+      }
+      /*
+       * NOTE: `fqn` may NOT exist in `targetLoader` context; in such case, `targetTypeHint`
+       * provides the alternate target type. For example, an application may define the method
+       * `move(Vehicle)`, while a plugin (loaded in its own class loader context) may define
+       * `Bike` as a subclass of `Vehicle`: if the plugin calls `myMethod(..)` passing an instance
+       * of `Bike`, such type will be invisible to the application; it will be `targetTypeHint` to
+       * provide `Vehicle` as an alternate.
+       */
+      targetType = requireNonNullElse(type(fqn, targetLoader), targetTypeHint);
     }
 
+    /*
+     * NOTE: Proxy types are bound to their target type, so each one is generated at most once and
+     * lives as long as its target type.
+     */
+    Class<?> proxyType = proxyTypes.get(targetType).get(() -> {
+      try {
+        return new ByteBuddy()
+            .subclass(targetType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+            // Fields
+            .defineField("proxyBase", Object.class, Modifier.PUBLIC + Modifier.FINAL)
+            // Constructors
+            .defineConstructor(Visibility.PUBLIC)
+            .withParameters(Object.class)
+            .intercept(MethodCall.invoke(
+                (!targetType.isInterface() ? targetType : Object.class)
+                    .getDeclaredConstructor())
+                .onSuper()
+                .andThen(FieldAccessor.ofField("proxyBase").setsArgumentAt(0)))
+            // Methods
+            /*
+             * NOTE: The adapter caches the intercepted methods (default behavior), which the
+             * dispatch tables rely on for identity lookups.
+             */
+            .method(ElementMatchers.any())
+            .intercept(InvocationHandlerAdapter.of(proxyHandler))
+            .make()
+            .load(targetType.getClassLoader())
+            /*
+             * TODO: Injection sometimes fails (for example, if debugging Jada on a JPMS
+             * project. Remove if unsolvable.
+             */
+            //.load(targetType.getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+            .getLoaded();
+      } catch (Exception ex) {
+        var b = new StringBuilder("Proxy type `").append(fqn).append("` creation FAILED");
+        if (!fqn.equals(targetType.getName())) {
+          b.append(" (targetType: ").append(targetType.getName()).append(")");
+        }
+        throw new ClassXCastException(b.toString(), ex);
+      }
+    });
+
     try {
       /*
        * NOTE: `obj` MUST be wrapped inside the proxy as a strong reference, otherwise as a weak
        * reference it may get dropped amid execution.
        */
-      proxySpace.instances.put(obj, ret = (T) proxyType.getConstructor(Object.class)
-          .newInstance(obj));
+      ret = (T) proxySpace.register(obj, proxyType.getConstructor(Object.class).newInstance(obj));
     } catch (Exception ex) {
       var b = new StringBuilder("`").append(objType.getName())
           .append("` proxy instantiation FAILED");
@@ -2444,6 +2787,114 @@ public final class Objects {
     return ret;
   }
 
+  /**
+   * Binds the proxy method to its source method.
+   *
+   * @param baseType
+   *          Source type.
+   * @param method
+   *          Proxy method.
+   * @param proxiedType
+   *          Type proxied by the proxy type declaring {@code method}.
+   * @return Method handle of type {@code (Object base, Object[] args)Object}, whose arguments and
+   *         return value are cross-cast through precompiled adapters (split types only; primitive
+   *         and final shared types pass through as-is).
+   */
+  private static MethodHandle proxyDispatch(Class<?> baseType, Method method,
+      Class<?> proxiedType) {
+    /*
+     * Get the source method corresponding to the proxy method!
+     *
+     * NOTE: (target) `method` is binary-incompatible with (source) `baseType`, so its argument
+     * types must be cross-cast to their base counterparts in order to find a matching method
+     * signature in `baseType`.
+     */
+    Class<?>[] paramTypes = method.getParameterTypes();
+    Class<?>[] baseParamTypes = nonNull(xcastArray(paramTypes, baseType, null));
+    Method baseMethod = null;
+    try {
+      baseMethod = baseType.getMethod(method.getName(), baseParamTypes);
+    } catch (Exception ex) {
+      /*
+       * NOTE: No matching public method found, so we have to hack through the non-public
+       * interface, hoping for the best.
+       */
+      var type = baseType;
+      do {
+        try {
+          baseMethod = type.getDeclaredMethod(method.getName(), baseParamTypes);
+          break;
+        } catch (Exception ex1) {
+          // NOP
+        }
+      } while ((type = type.getSuperclass()) != null);
+      if (baseMethod == null)
+        throw runtime("Base method NOT FOUND", ex);
+
+      baseMethod.setAccessible(true);
+    }
+
+    MethodHandle ret;
+    try {
+      ret = MethodHandles.lookup().unreflect(baseMethod);
+    } catch (IllegalAccessException ex) {
+      throw runtime(ex);
+    }
+
+    // Argument adapters.
+    for (int i = 0; i < baseParamTypes.length; i++) {
+      if (!isXcastNeeded(paramTypes[i], baseParamTypes[i]))
+        continue;
+
+      ret = MethodHandles.filterArguments(ret, i + 1 /* skips `base` */,
+          MethodHandles.insertArguments(XCAST, 1, baseType, baseParamTypes[i])
+              .asType(MethodType.methodType(baseParamTypes[i], Object.class)));
+    }
+
+    /*
+     * Return adapter.
+     *
+     * NOTE: Return value is cross-cast in turn, to ensure any binary-incompatible type is
+     * encapsulated into its own proxy.
+     */
+    Class<?> baseReturnType = baseMethod.getReturnType();
+    if (baseReturnType != void.class && isXcastNeeded(method.getReturnType(), baseReturnType)) {
+      ret = MethodHandles.filterReturnValue(ret,
+          MethodHandles.insertArguments(XCAST, 1, proxiedType,
+              method.getReturnType())
+              .asType(MethodType.methodType(Object.class, baseReturnType)));
+    }
+
+    return ret.asType(ret.type().generic())
+        .asSpreader(Object[].class, baseParamTypes.length);
+  }
+
+  /**
+   * Gets the type proxied by a proxy type.
+   */
+  private static Class<?> proxiedType(Class<?> proxyType) {
+    Class<?> ret = proxyType.getSuperclass();
+    Class<?>[] interfaces;
+    return ret == Object.class && (interfaces = proxyType.getInterfaces()).length > 0
+        ? interfaces[0]
+        : ret;
+  }
+
+  /**
+   * Gets whether values of the type must be cross-cast between the target and source contexts.
+   *
+   * @param type
+   *          Target type.
+   * @param baseType
+   *          Source type.
+   * @return {@code false}, if {@code baseType} is primitive, or a final non-array type shared by
+   *         both contexts (its instances are compatible with both).
+   */
+  private static boolean isXcastNeeded(Class<?> type, Class<?> baseType) {
+    return !baseType.isPrimitive()
+        && (baseType != type || baseType.isArray() || !Modifier.isFinal(baseType.getModifiers()));
+  }
+
   /**
    * {@linkplain #xcast(Object, Object) Cross-casts} an object to the target {@linkplain ClassLoader
    * class loader}.
@@ -0,0 +1,607 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ArrayIndexedMap.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+import static org.pdfclown.common.util.Conditions.requireAtLeast;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Insertion-ordered {@link IndexedMap} backed by arrays.
+ * <p>
+ * Entries are stored in parallel key/value arrays (in index order), along with a compact
+ * open-addressing hash table mapping keys to their positions: key lookups,
+ * {@link #indexOfKey(Object) indexOfKey(..)}, {@link #keyOfIndex(int) keyOfIndex(..)} and appending
+ * insertions take constant time; positional insertions, removals (except the last entry) and
+ * {@linkplain #move(int, int) moves} take linear time, as subsequent entries are shifted.
+ * </p>
+ * <p>
+ * Value lookups ({@link #indexOfValue(Object) indexOfValue(..)}, {@link #getKey(Object)
+ * getKey(..)}, {@link #containsValue(Object) containsValue(..)}) are served by a reverse index
+ * built on demand, updated in place on appending insertions and value replacements, and discarded
+ * on the next shift or removal.
+ * </p>
+ *
+ * @param <K>
+ *          Map key type.
+ * @param <V>
+ *          Map value type.
+ * @author Stefano Chizzolini
+ */
+public class ArrayIndexedMap<K extends @Nullable Object, V> extends AbstractMap<K, V>
+    implements IndexedMap<K, V> {
+  /**
+   * Map entry, bound to its position (as long as the map is not structurally modified; afterwards,
+   * it is resolved by key).
+   */
+  private class IndexedEntry implements Map.Entry<K, V> {
+    private final K key;
+
+    private int expectedModCount;
+    private int index;
+
+    @SuppressWarnings("unchecked")
+    IndexedEntry(int index) {
+      this.index = index;
+      key = (K) keys[index];
+      expectedModCount = modCount;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      return o instanceof Map.Entry<?, ?> that
+          && Objects.equals(key, that.getKey())
+          && Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "NullAway" /* removed entry */ })
+    public V getValue() {
+      int index = index();
+      return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public V setValue(V value) {
+      int index = index();
+      if (index < 0)
+        throw new IllegalStateException("Entry removed");
+
+      return ArrayIndexedMap.this.setValue(index, requireNonNull(value, "`value`"));
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+
+    /**
+     * @return {@code -1}, if the entry was removed.
+     */
+    private int index() {
+      if (modCount != expectedModCount) {
+        index = find(key);
+        expectedModCount = modCount;
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Entry iterator.
+   */
+  private class Itr implements Iterator<Map.Entry<K, V>> {
+    private int expectedModCount = modCount;
+    private int last = -1;
+    private int next;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      checkModCount();
+
+      if (next >= size)
+        throw new NoSuchElementException();
+
+      return new IndexedEntry(last = next++);
+    }
+
+    @Override
+    public void remove() {
+      checkModCount();
+
+      if (last < 0)
+        throw new IllegalStateException();
+
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkModCount() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  private static final int CAPACITY__DEFAULT = 8;
+
+  private static int hash(@Nullable Object o) {
+    int ret = Objects.hashCode(o);
+    return ret ^ (ret >>> 16);
+  }
+
+  private @Nullable Set<Map.Entry<K, V>> entrySet;
+  /**
+   * Key hashes (in index order).
+   */
+  private int[] hashes;
+  private @Nullable Object[] keys;
+  /**
+   * Structural changes (fail-fast iteration).
+   */
+  private int modCount;
+  private int size;
+  /**
+   * Open-addressing (linear probing) hash table of key positions ({@code index + 1}; {@code 0},
+   * for empty slot).
+   * <p>
+   * Its length is a power of 2, at least twice the key capacity, so probe sequences stay short.
+   * </p>
+   */
+  private int[] slots;
+  /**
+   * Reverse index (value to least position), lazily built.
+   */
+  private @Nullable Map<Object, Integer> valueIndex;
+  private Object[] values;
+
+  public ArrayIndexedMap() {
+    this(CAPACITY__DEFAULT);
+  }
+
+  /**
+   * @param capacity
+   *          Initial number of entries which can be held without growing.
+   */
+  public ArrayIndexedMap(int capacity) {
+    requireAtLeast(capacity, 0, "capacity");
+
+    capacity = Math.max(capacity, 1);
+    hashes = new int[capacity];
+    keys = new Object[capacity];
+    values = new Object[capacity];
+    slots = new int[slotCount(capacity)];
+  }
+
+  public ArrayIndexedMap(Map<? extends K, ? extends V> m) {
+    this(m.size());
+
+    putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    if (size == 0)
+      return;
+
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    Arrays.fill(slots, 0);
+    size = 0;
+    changed();
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return find(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(@Nullable Object value) {
+    return value != null && valueIndex().containsKey(value);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    var ret = entrySet;
+    if (ret == null) {
+      entrySet = ret = new AbstractSet<>() {
+        @Override
+        public void clear() {
+          ArrayIndexedMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+          if (!(o instanceof Map.Entry<?, ?> entry))
+            return false;
+
+          int index = find(entry.getKey());
+          return index >= 0 && Objects.equals(values[index], entry.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new Itr();
+        }
+
+        @Override
+        public boolean remove(@Nullable Object o) {
+          if (!contains(o))
+            return false;
+
+          removeAt(find(((Map.Entry<?, ?>) o).getKey()));
+          return true;
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+    }
+    return ret;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(@Nullable Object key) {
+    int index = find(key);
+    return index >= 0 ? (V) values[index] : null;
+  }
+
+  @Override
+  public @Nullable K getKey(V value) {
+    int index = indexOfValue(value);
+    return index >= 0 ? keyOfIndex(index) : null;
+  }
+
+  /**
+   * Gets the value at the position.
+   *
+   * @param index
+   *          Entry position.
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is less, or equal, or greater than {@link #size() size}.
+   */
+  @SuppressWarnings("unchecked")
+  public V getValue(int index) {
+    return (V) values[checkIndex(index, size)];
+  }
+
+  @Override
+  public int indexOfKey(K key) {
+    return find(key);
+  }
+
+  @Override
+  public int indexOfValue(V value) {
+    if (value == null)
+      return -1;
+
+    Integer ret = valueIndex().get(value);
+    return ret != null ? ret : -1;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public K keyOfIndex(int index) {
+    return (K) keys[checkIndex(index, size)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map.Entry<K, V> move(int index, int targetIndex) {
+    checkIndex(index, size);
+    checkIndex(targetIndex, size + 1);
+
+    if (targetIndex > index) {
+      targetIndex--;
+    }
+    var ret = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+    if (targetIndex != index) {
+      relocate(index, targetIndex);
+      changed();
+    }
+    return ret;
+  }
+
+  @Override
+  public @Nullable V put(K key, @Nullable V value) {
+    if (value == null)
+      return remove(key);
+
+    int index = find(key);
+    if (index >= 0)
+      return setValue(index, value);
+
+    insert(size, key, value);
+    return null;
+  }
+
+  @Override
+  public @Nullable V put(K key, @Nullable V value, int index) {
+    checkIndex(index, size + 1);
+
+    if (value == null)
+      return remove(key);
+
+    int oldIndex = find(key);
+    if (oldIndex >= 0) {
+      if (index > oldIndex) {
+        index--;
+      }
+      if (index != oldIndex) {
+        relocate(oldIndex, index);
+        changed();
+      }
+      return setValue(index, value);
+    }
+
+    insert(index, key, value);
+    return null;
+  }
+
+  @Override
+  public @Nullable V remove(@Nullable Object key) {
+    int index = find(key);
+    return index >= 0 ? removeAt(index) : null;
+  }
+
+  /**
+   * Removes the entry at the position.
+   *
+   * @param index
+   *          Entry position.
+   * @return Removed value.
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is less, or equal, or greater than {@link #size() size}.
+   */
+  @SuppressWarnings("unchecked")
+  public V removeAt(int index) {
+    checkIndex(index, size);
+
+    var ret = (V) values[index];
+    unslot(slotOf(index));
+    int tailCount = size - index - 1;
+    if (tailCount > 0) {
+      System.arraycopy(hashes, index + 1, hashes, index, tailCount);
+      System.arraycopy(keys, index + 1, keys, index, tailCount);
+      System.arraycopy(values, index + 1, values, index, tailCount);
+      shiftSlots(index + 1, size - 1, -1);
+    }
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    changed();
+    return ret;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private void changed() {
+    modCount++;
+    valueIndex = null;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= keys.length)
+      return;
+
+    int newCapacity = Math.max(capacity, keys.length + (keys.length >> 1) + 1);
+    hashes = Arrays.copyOf(hashes, newCapacity);
+    keys = Arrays.copyOf(keys, newCapacity);
+    values = Arrays.copyOf(values, newCapacity);
+
+    int slotCount = slotCount(newCapacity);
+    if (slotCount > slots.length) {
+      slots = new int[slotCount];
+      for (int i = 0; i < size; i++) {
+        slot(i);
+      }
+    }
+  }
+
+  /**
+   * Gets the position of the key.
+   *
+   * @return {@code -1}, if missing.
+   */
+  private int find(@Nullable Object key) {
+    int hash = hash(key);
+    int mask = slots.length - 1;
+    for (int i = hash & mask, slot; (slot = slots[i]) != 0; i = (i + 1) & mask) {
+      int index = slot - 1;
+      if (hashes[index] == hash && Objects.equals(keys[index], key))
+        return index;
+    }
+    return -1;
+  }
+
+  private void insert(int index, K key, V value) {
+    ensureCapacity(size + 1);
+
+    int tailCount = size - index;
+    if (tailCount > 0) {
+      System.arraycopy(hashes, index, hashes, index + 1, tailCount);
+      System.arraycopy(keys, index, keys, index + 1, tailCount);
+      System.arraycopy(values, index, values, index + 1, tailCount);
+      shiftSlots(index, size - 1, 1);
+    }
+    hashes[index] = hash(key);
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    slot(index);
+    if (tailCount > 0) {
+      changed();
+    } else {
+      modCount++;
+      if (valueIndex != null) {
+        valueIndex.putIfAbsent(value, index);
+      }
+    }
+  }
+
+  /**
+   * Moves the entry at the position to the target position, shifting the entries in between.
+   */
+  private void relocate(int index, int targetIndex) {
+    int hash = hashes[index];
+    Object key = keys[index];
+    Object value = values[index];
+    int slot = slotOf(index);
+    if (targetIndex < index) {
+      System.arraycopy(hashes, targetIndex, hashes, targetIndex + 1, index - targetIndex);
+      System.arraycopy(keys, targetIndex, keys, targetIndex + 1, index - targetIndex);
+      System.arraycopy(values, targetIndex, values, targetIndex + 1, index - targetIndex);
+      shiftSlots(targetIndex, index - 1, 1);
+    } else {
+      System.arraycopy(hashes, index + 1, hashes, index, targetIndex - index);
+      System.arraycopy(keys, index + 1, keys, index, targetIndex - index);
+      System.arraycopy(values, index + 1, values, index, targetIndex - index);
+      shiftSlots(index + 1, targetIndex, -1);
+    }
+    hashes[targetIndex] = hash;
+    keys[targetIndex] = key;
+    values[targetIndex] = value;
+    slots[slot] = targetIndex + 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V setValue(int index, V value) {
+    var ret = (V) values[index];
+    values[index] = value;
+    if (valueIndex != null && !Objects.equals(ret, value)) {
+      // Old value least position: move to its next occurrence, if any.
+      if (valueIndex.remove(ret, index)) {
+        for (int i = index + 1; i < size; i++) {
+          if (Objects.equals(values[i], ret)) {
+            valueIndex.put(ret, i);
+            break;
+          }
+        }
+      }
+      valueIndex.merge(value, index, Math::min);
+    }
+    return ret;
+  }
+
+  /**
+   * Offsets the slots pointing to the positions in the range.
+   *
+   * @param low
+   *          Least position (inclusive).
+   * @param high
+   *          Greatest position (inclusive).
+   */
+  private void shiftSlots(int low, int high, int offset) {
+    for (int i = 0; i < slots.length; i++) {
+      int index = slots[i] - 1;
+      if (index >= low && index <= high) {
+        slots[i] += offset;
+      }
+    }
+  }
+
+  /**
+   * Adds the position to the hash table.
+   */
+  private void slot(int index) {
+    int mask = slots.length - 1;
+    int i = hashes[index] & mask;
+    while (slots[i] != 0) {
+      i = (i + 1) & mask;
+    }
+    slots[i] = index + 1;
+  }
+
+  private static int slotCount(int capacity) {
+    return Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+  }
+
+  /**
+   * Gets the hash table slot of the position.
+   */
+  private int slotOf(int index) {
+    int mask = slots.length - 1;
+    int i = hashes[index] & mask;
+    while (slots[i] != index + 1) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /**
+   * Clears the hash table slot, compacting its probe sequence (backward-shift deletion).
+   */
+  private void unslot(int slot) {
+    int mask = slots.length - 1;
+    int i = slot;
+    for (int j = (i + 1) & mask, next; (next = slots[j]) != 0; j = (j + 1) & mask) {
+      int home = hashes[next - 1] & mask;
+      if (((j - home) & mask) >= ((j - i) & mask)) {
+        slots[i] = next;
+        i = j;
+      }
+    }
+    slots[i] = 0;
+  }
+
+  private Map<Object, Integer> valueIndex() {
+    var ret = valueIndex;
+    if (ret == null) {
+      valueIndex = ret = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        ret.putIfAbsent(values[i], i);
+      }
+    }
+    return ret;
+  }
+}
@@ -0,0 +1,292 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (BidirectionalMap.java) is part of pdfclown-common-util module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Hash map which keeps a reverse index of its values, so {@link #getKey(Object) getKey(..)} takes
+ * constant time instead of iterating the whole map.
+ * <p>
+ * The reverse index is kept consistent through any mutation path ({@link #put(Object, Object)
+ * put(..)}, {@link #remove(Object) remove(..)}, {@link #and(Object, Object) and(..)},
+ * {@link #but(Object) but(..)}, views and their iterators). Values are indexed either by equality
+ * or by identity (see {@link #BidirectionalMap(boolean)}); multiple keys may be associated to the
+ * same value, in which case {@link #getKey(Object) getKey(..)} returns the earliest-associated one
+ * still in the map.
+ * </p>
+ * <p>
+ * Used as sub-map of a {@link CompositeMap}, it resolves {@link CompositeMap#getKey(Object)} in
+ * constant time too.
+ * </p>
+ *
+ * @param <K>
+ *          Key type.
+ * @param <V>
+ *          Value type.
+ * @author Stefano Chizzolini
+ */
+public class BidirectionalMap<K extends @Nullable Object, V> extends AbstractMap<K, V>
+    implements XtMap<K, V> {
+  /**
+   * Keys sharing the same value (reverse index), in association order.
+   */
+  @SuppressWarnings("serial")
+  private static final class Keys extends LinkedHashSet<@Nullable Object> {
+    Keys(@Nullable Object key1, @Nullable Object key2) {
+      add(key1);
+      add(key2);
+    }
+
+    /**
+     * Earliest-associated key.
+     */
+    @Nullable
+    Object first() {
+      return iterator().next();
+    }
+  }
+
+  private final Map<K, V> base = new HashMap<>();
+  /**
+   * Whether values are indexed by identity (otherwise, by equality).
+   */
+  private final boolean identity;
+  /**
+   * Reverse index (value to either key or {@link Keys}).
+   */
+  private final Map<V, @Nullable Object> inverse;
+
+  private @Nullable Set<Map.Entry<K, V>> entrySet;
+
+  /**
+   * Creates a map indexing values by equality.
+   */
+  public BidirectionalMap() {
+    this(false);
+  }
+
+  /**
+   * @param identity
+   *          Whether values are indexed by identity rather than by equality (convenient for object
+   *          references whose equality is expensive or not meaningful).
+   */
+  public BidirectionalMap(boolean identity) {
+    this.identity = identity;
+    inverse = identity ? new IdentityHashMap<>() : new HashMap<>();
+  }
+
+  /**
+   * Creates a map indexing values by equality, populated with the entries.
+   */
+  public BidirectionalMap(Map<? extends K, ? extends V> m) {
+    this(false);
+
+    putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    base.clear();
+    inverse.clear();
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return base.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(@Nullable Object value) {
+    return identity ? base.containsValue(value) : inverse.containsKey(value);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    var ret = entrySet;
+    if (ret == null) {
+      entrySet = ret = new AbstractSet<>() {
+        @Override
+        public void clear() {
+          BidirectionalMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+          return base.entrySet().contains(o);
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new Iterator<>() {
+            final Iterator<Map.Entry<K, V>> base = BidirectionalMap.this.base.entrySet().iterator();
+            Map.@Nullable Entry<K, V> last;
+
+            @Override
+            public boolean hasNext() {
+              return base.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+              var entry = last = base.next();
+              return new SimpleEntry<>(entry) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public V setValue(V value) {
+                  V oldValue = entry.setValue(requireNonNull(value, "`value`"));
+                  super.setValue(value);
+                  relink(entry.getKey(), oldValue, value);
+                  return oldValue;
+                }
+              };
+            }
+
+            @Override
+            public void remove() {
+              var last = this.last;
+              if (last == null)
+                throw new IllegalStateException();
+
+              K key = last.getKey();
+              V value = last.getValue();
+              base.remove();
+              unlink(key, value);
+              this.last = null;
+            }
+          };
+        }
+
+        @Override
+        public boolean remove(@Nullable Object o) {
+          if (!contains(o))
+            return false;
+
+          BidirectionalMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+          return true;
+        }
+
+        @Override
+        public int size() {
+          return base.size();
+        }
+      };
+    }
+    return ret;
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    return base.get(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @implNote Served by the reverse index (O(1) complexity).
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable K getKey(V value) {
+    var ret = inverse.get(value);
+    return (K) (ret instanceof Keys keys ? keys.first() : ret);
+  }
+
+  /**
+   * Whether values are indexed by identity (otherwise, by equality).
+   */
+  public boolean isIdentity() {
+    return identity;
+  }
+
+  @Override
+  public @Nullable V put(K key, @Nullable V value) {
+    if (value == null)
+      return remove(key);
+
+    V ret = base.put(key, value);
+    if (ret != null) {
+      relink(key, ret, value);
+    } else {
+      link(key, value);
+    }
+    return ret;
+  }
+
+  @Override
+  public @Nullable V remove(@Nullable Object key) {
+    V ret = base.remove(key);
+    if (ret != null) {
+      unlink(key, ret);
+    }
+    return ret;
+  }
+
+  @Override
+  public int size() {
+    return base.size();
+  }
+
+  /**
+   * Adds the association to the reverse index.
+   */
+  private void link(@Nullable Object key, V value) {
+    if (!inverse.containsKey(value)) {
+      inverse.put(value, key);
+    } else if (inverse.get(value) instanceof Keys keys) {
+      keys.add(key);
+    } else {
+      inverse.put(value, new Keys(inverse.get(value), key));
+    }
+  }
+
+  /**
+   * Moves the association to another value in the reverse index.
+   * <p>
+   * If the values are the same (according to the {@linkplain #isIdentity() indexing mode}), the
+   * association is left untouched, preserving its position among the keys sharing the value.
+   * </p>
+   */
+  private void relink(@Nullable Object key, V oldValue, V newValue) {
+    if (identity ? oldValue == newValue : oldValue.equals(newValue))
+      return;
+
+    unlink(key, oldValue);
+    link(key, newValue);
+  }
+
+  /**
+   * Removes the association from the reverse index.
+   */
+  private void unlink(@Nullable Object key, V value) {
+    if (inverse.get(value) instanceof Keys keys) {
+      keys.remove(key);
+      if (keys.size() == 1) {
+        inverse.put(value, keys.first());
+      }
+    } else {
+      inverse.remove(value);
+    }
+  }
+}
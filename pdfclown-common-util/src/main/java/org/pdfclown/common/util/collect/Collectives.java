@@ -16,9 +16,11 @@ import static java.util.Objects.requireNonNull;
 import static org.pdfclown.common.util.Exceptions.unsupported;
 
 import java.io.Serial;
+import java.util.AbstractList;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -28,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.WeakHashMap;
@@ -46,6 +49,163 @@ import org.pdfclown.common.util.annot.Unmodifiable;
  * @author Stefano Chizzolini
  */
 public final class Collectives {
+  /**
+   * Random-access view of the Cartesian product of lists.
+   * <p>
+   * The n-th combination is computed by index arithmetic (mixed-radix decomposition of
+   * {@code n}), with the last list varying fastest.
+   * </p>
+   *
+   * @author Stefano Chizzolini
+   */
+  private static class CartesianProductList extends AbstractList<List<Object>>
+      implements RandomAccess {
+    private final @Nullable Object[][] factors;
+    private final int size;
+
+    CartesianProductList(List<List<?>> lists) {
+      factors = factors(lists);
+      size = Math.toIntExact(cartesianProductSize(factors));
+    }
+
+    @Override
+    public List<Object> get(int index) {
+      Objects.checkIndex(index, size);
+
+      var ret = new ArrayList<>(factors.length);
+      var digits = cartesianProductDigits(factors, index);
+      for (int i = 0; i < factors.length; i++) {
+        ret.add(factors[i][digits[i]]);
+      }
+      return ret;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Spliterator<List<Object>> spliterator() {
+      return new CartesianProductSpliterator(factors, 0, size, false);
+    }
+  }
+
+  /**
+   * Cartesian product spliterator.
+   * <p>
+   * Combinations are iterated as a mixed-radix counter (the last list varying fastest), split by
+   * index range.
+   * </p>
+   *
+   * @author Stefano Chizzolini
+   */
+  private static class CartesianProductSpliterator implements Spliterator<List<Object>> {
+    private final @Nullable Object[][] factors;
+    private final boolean rowReused;
+
+    /**
+     * Index of the current combination.
+     */
+    private long index;
+    /**
+     * End index (exclusive).
+     */
+    private final long end;
+    /**
+     * Mixed-radix digits of the current combination ({@code null}, if not computed yet).
+     */
+    private int @Nullable [] digits;
+    /**
+     * Reused row ({@code null}, if rows are not reused or not allocated yet).
+     */
+    private @Nullable Object @Nullable [] row;
+    /**
+     * List view of {@link #row}.
+     */
+    private @Nullable List<Object> rowView;
+
+    CartesianProductSpliterator(@Nullable Object[][] factors, long index, long end,
+        boolean rowReused) {
+      this.factors = factors;
+      this.index = index;
+      this.end = end;
+      this.rowReused = rowReused;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super List<Object>> action) {
+      //noinspection StatementWithEmptyBody
+      while (tryAdvance(action)) {
+        // NOP
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<Object>> action) {
+      if (index >= end)
+        return false;
+
+      var digits = this.digits;
+      if (digits == null) {
+        this.digits = digits = cartesianProductDigits(factors, index);
+      }
+
+      // Emit the current combination!
+      if (rowReused) {
+        var row = this.row;
+        var rowView = this.rowView;
+        if (row == null || rowView == null) {
+          this.row = row = new Object[factors.length];
+          this.rowView = rowView = Arrays.asList(row);
+        }
+        for (int i = 0; i < factors.length; i++) {
+          row[i] = factors[i][digits[i]];
+        }
+        action.accept(rowView);
+      } else {
+        var row = new ArrayList<>(factors.length);
+        for (int i = 0; i < factors.length; i++) {
+          row.add(factors[i][digits[i]]);
+        }
+        action.accept(row);
+      }
+
+      // Move to the next combination!
+      if (++index < end) {
+        for (int i = factors.length - 1; i >= 0; i--) {
+          if (++digits[i] < factors[i].length) {
+            break;
+          }
+          digits[i] = 0;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public @Nullable Spliterator<List<Object>> trySplit() {
+      long mid = index + (end - index) / 2;
+      if (mid == index)
+        return null;
+
+      var ret = new CartesianProductSpliterator(factors, index, mid, rowReused);
+      index = mid;
+      digits = null;
+      return ret;
+    }
+  }
+
   /**
    * Map-backed delegation set, safe for concurrent modifications.
    * <p>
@@ -443,11 +603,55 @@ public final class Collectives {
 
   /**
    * Gets the Cartesian product of lists.
+   * <p>
+   * Combinations are ordered with the last list varying fastest; the stream is efficiently
+   * splittable (by index range), so it can be {@linkplain Stream#parallel() parallelized}.
+   * </p>
    *
-   * @return Sequential stream.
+   * @param lists
+   *          Factors (their content is copied).
+   * @return Sequential stream of mutable combinations.
    */
   public static Stream<List<Object>> cartesianProduct(List<List<?>> lists) {
-    return cartesianProduct(lists, 0);
+    return cartesianProduct(lists, false);
+  }
+
+  /**
+   * Gets the Cartesian product of lists.
+   * <p>
+   * Combinations are ordered with the last list varying fastest; the stream is efficiently
+   * splittable (by index range), so it can be {@linkplain Stream#parallel() parallelized}.
+   * </p>
+   *
+   * @param lists
+   *          Factors (their content is copied).
+   * @param rowReused
+   *          Whether combinations are written into a single row (per split), for allocation-free
+   *          iteration: in such case, each combination is valid only until the next one is
+   *          emitted, so it MUST NOT be retained (nor modified).
+   * @return Sequential stream.
+   */
+  public static Stream<List<Object>> cartesianProduct(List<List<?>> lists, boolean rowReused) {
+    var factors = factors(lists);
+    return StreamSupport.stream(new CartesianProductSpliterator(factors, 0,
+        cartesianProductSize(factors), rowReused), false);
+  }
+
+  /**
+   * Gets the Cartesian product of lists as random-access list.
+   * <p>
+   * Combinations are ordered with the last list varying fastest; each is computed on demand by
+   * index arithmetic, so the list takes no more memory than the factors.
+   * </p>
+   *
+   * @param lists
+   *          Factors (their content is copied).
+   * @return Unmodifiable list of mutable combinations.
+   * @throws ArithmeticException
+   *           if the number of combinations exceeds {@link Integer#MAX_VALUE}.
+   */
+  public static List<List<Object>> cartesianProductList(List<List<?>> lists) {
+    return new CartesianProductList(lists);
   }
 
   /**
@@ -994,17 +1198,45 @@ public final class Collectives {
     return false;
   }
 
-  private static Stream<List<Object>> cartesianProduct(List<List<?>> lists, int index) {
-    if (index == lists.size())
-      return Stream.of(new ArrayList<>());
+  /**
+   * Gets the mixed-radix digits of a combination.
+   *
+   * @param factors
+   *          Cartesian product factors.
+   * @param index
+   *          Combination index.
+   * @return Element indexes of the combination, one per factor.
+   */
+  private static int[] cartesianProductDigits(@Nullable Object[][] factors, long index) {
+    var ret = new int[factors.length];
+    for (int i = factors.length - 1; i >= 0; i--) {
+      int radix = factors[i].length;
+      ret[i] = (int) (index % radix);
+      index /= radix;
+    }
+    return ret;
+  }
 
-    return lists.get(index).stream()
-        .flatMap($ -> cartesianProduct(lists, index + 1)
-            .map($$ -> {
-              var newList = new ArrayList<>($$);
-              newList.add(0, $);
-              return newList;
-            }));
+  /**
+   * Gets the number of combinations of a Cartesian product.
+   *
+   * @throws ArithmeticException
+   *           if the number of combinations exceeds {@link Long#MAX_VALUE}.
+   */
+  private static long cartesianProductSize(@Nullable Object[][] factors) {
+    long ret = 1;
+    for (var factor : factors) {
+      ret = Math.multiplyExact(ret, factor.length);
+    }
+    return ret;
+  }
+
+  private static @Nullable Object[][] factors(List<List<?>> lists) {
+    var ret = new Object[lists.size()][];
+    for (int i = 0; i < ret.length; i++) {
+      ret[i] = lists.get(i).toArray();
+    }
+    return ret;
   }
 
   private Collectives() {
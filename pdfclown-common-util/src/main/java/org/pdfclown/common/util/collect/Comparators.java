@@ -49,6 +49,7 @@ public class Comparators {
         private int minPriority;
         private int maxPriority;
         private HashMap<Class, Integer> priorities = new HashMap<>();
+        private int version;
 
         private TypePriorityComparator() {
         }
@@ -88,6 +89,18 @@ public class Comparators {
           return priorities.getOrDefault(type, defaultValue);
         }
 
+        /**
+         * Gets the ordering version.
+         * <p>
+         * It changes whenever a priority change affects the ordering, so derived comparators can be
+         * rebuilt only when needed (see {@link org.pdfclown.common.util.Objects#superTypes(Class,
+         * HierarchicalTypeComparator, java.util.Set, boolean) superTypes(..)}).
+         * </p>
+         */
+        public int getVersion() {
+          return version;
+        }
+
         /**
          * Associates a priority to the type.
          */
@@ -102,7 +115,10 @@ public class Comparators {
             subtractExact(priority, minPriority) /* Checks overflow */;
             maxPriority = priority;
           }
-          priorities.put(type, priority);
+          Integer oldPriority = priorities.put(type, priority);
+          if ((oldPriority != null ? oldPriority : 0) != priority) {
+            version++;
+          }
           return this;
         }
 
@@ -72,6 +72,9 @@ public interface CompositeMap<K, V, M extends XtMap<? extends K, ? extends V>> {
    *          Value whose key is looked up.
    * @throws NullPointerException
    *           if {@code value} type has no mapping.
+   * @implNote The lookup is delegated to {@link XtMap#getKey(Object)} of the matching sub-map, so
+   *           its complexity is that of the sub-map: O(n) for ordinary maps, O(1) for
+   *           {@link BidirectionalMap}.
    */
   @SuppressWarnings("unchecked")
   default @Nullable K getKey(V value) {
@@ -0,0 +1,419 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ConcurrentDynamicMap.java) is part of pdfclown-common-util module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static java.util.Objects.requireNonNull;
+import static org.pdfclown.common.util.Objects.sqn;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+import org.pdfclown.common.util.collect.DynamicMap.DynamicProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread-safe {@link DynamicMap}.
+ * <p>
+ * Explicit and already-materialized dynamic entries are retrieved without locking; the dynamic
+ * entry of a missing key is resolved atomically (see {@link ConcurrentHashMap#computeIfAbsent(
+ * Object, java.util.function.Function) computeIfAbsent(..)}), so its related keys are traversed at
+ * most once, even if multiple threads concurrently request it.
+ * </p>
+ * <p>
+ * User mutations ({@link #put(Object, Object) put(..)}, {@link #remove(Object) remove(..)},
+ * {@link #compute(Object, BiFunction) compute(..)}, {@link #merge(Object, Object, BiFunction)
+ * merge(..)}, etc.) update the parent link of their key atomically with its entry. Removals through
+ * collection views ({@link #keySet()}, {@link #values()}, {@link #entrySet()}) are supported too:
+ * the link they may leave behind is ignored, as it belongs to a missing key.
+ * </p>
+ *
+ * @param <K>
+ *          Key type.
+ * @param <V>
+ *          Value type.
+ * @implSpec {@link #getRelatedKeysProvider() relatedKeysProvider} MUST be thread-safe and MUST NOT
+ *           modify this map (reading its key set is safe).
+ * @author Stefano Chizzolini
+ */
+@SuppressWarnings({ "serial" /* serialization is currently not a concern */, "unchecked" })
+public class ConcurrentDynamicMap<K, V> extends ConcurrentHashMap<K, V> {
+  private static final Logger log = LoggerFactory.getLogger(ConcurrentDynamicMap.class);
+
+  private final ConcurrentHashMap<K, K> parentKeys = new ConcurrentHashMap<>();
+  private final DynamicProvider<K> relatedKeysProvider;
+
+  public ConcurrentDynamicMap(DynamicProvider<K> relatedKeysProvider) {
+    this.relatedKeysProvider = requireNonNull(relatedKeysProvider, "`relatedKeysProvider`");
+  }
+
+  @Override
+  public void clear() {
+    /*
+     * NOTE: Entries are removed one by one, so that each parent link goes away together with its
+     * entry (concurrently resolved entries are never left without their links).
+     */
+    for (K key : keySet()) {
+      remove(key);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public @Nullable V compute(K key,
+      BiFunction<? super K, ? super @Nullable V, ? extends @Nullable V> remappingFunction) {
+    requireNonNull(remappingFunction);
+    return super.compute(key, ($k, $v) -> {
+      parentKeys.remove($k);
+      return remappingFunction.apply($k, $v);
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Contrary to {@link #get(Object)}, no dynamic mapping is resolved: if {@code key} is missing, it
+   * becomes root.
+   * </p>
+   */
+  @Override
+  public @Nullable V computeIfAbsent(K key,
+      Function<? super K, ? extends @Nullable V> mappingFunction) {
+    requireNonNull(mappingFunction);
+    return super.computeIfAbsent(key, $k -> {
+      parentKeys.remove($k);
+      return mappingFunction.apply($k);
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public @Nullable V computeIfPresent(K key,
+      BiFunction<? super K, ? super V, ? extends @Nullable V> remappingFunction) {
+    requireNonNull(remappingFunction);
+    return super.computeIfPresent(key, ($k, $v) -> {
+      parentKeys.remove($k);
+      return remappingFunction.apply($k, $v);
+    });
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If a perfect/explicit (primary) match is missing, a related/implicit (secondary) match is
+   * searched traversing the related keys.
+   * </p>
+   */
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    V ret = super.get(key);
+    if (ret == null && key != null) {
+      // Looking for implicit mapping (atomically)...
+      ret = super.computeIfAbsent((K) key, this::resolve);
+    }
+    return ret;
+  }
+
+  @Override
+  public final V getOrDefault(Object key, V defaultValue) {
+    V ret = get(key);
+    return ret != null ? ret : defaultValue;
+  }
+
+  /**
+   * Gets the key the given one was dynamically derived from.
+   *
+   * @return {@code null}, if {@code key} is root or missing.
+   */
+  public @Nullable K getParentKey(K key) {
+    var ret = parentKeys.get(key);
+    return ret != null && super.get(key) != null ? ret : null;
+  }
+
+  /**
+   * Gets the root key associated to the given key.
+   *
+   * @return
+   *         <ul>
+   *         <li>distinct key, if {@code key} is derived (dynamic mapping)</li>
+   *         <li>{@code key}, if it is user-defined (explicit mapping)</li>
+   *         <li>{@code null}, if no mapping, neither explicit nor dynamic, exists, even if
+   *         {@code key} can potentially be derived from an existing root (only a call to
+   *         {@link #get(Object)} triggers its mapping).</li>
+   *         </ul>
+   */
+  public @Nullable K getRootKey(K key) {
+    if (super.get(key) == null)
+      return null;
+
+    var parent = parentKeys.get(key);
+    if (parent == null)
+      // `key` is root itself.
+      return key;
+
+    var ret = parent;
+    while (true) {
+      parent = parentKeys.get(ret);
+      if (parent == null)
+        return ret;
+
+      ret = parent;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public @Nullable V merge(K key, V value,
+      BiFunction<? super V, ? super V, ? extends @Nullable V> remappingFunction) {
+    requireNonNull(value);
+    requireNonNull(remappingFunction);
+    return super.compute(key, ($k, $v) -> {
+      parentKeys.remove($k);
+      return $v != null ? remappingFunction.apply($v, value) : value;
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public @Nullable V put(K key, V value) {
+    requireNonNull(value);
+    return write(key, value);
+  }
+
+  @Override
+  public final void putAll(Map<? extends K, ? extends V> m) {
+    for (var entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If {@code key} is missing, it becomes root.
+   * </p>
+   */
+  @Override
+  public @Nullable V putIfAbsent(K key, V value) {
+    requireNonNull(value);
+    var ret = new Object[1];
+    super.compute(key, ($k, $v) -> {
+      if ((ret[0] = $v) != null)
+        return $v;
+
+      parentKeys.remove($k);
+      return value;
+    });
+    return (V) ret[0];
+  }
+
+  @Override
+  public @Nullable V remove(Object key) {
+    return write((K) requireNonNull(key), null);
+  }
+
+  @Override
+  public boolean remove(Object key, @Nullable Object value) {
+    if (value == null)
+      return false;
+
+    var ret = new boolean[1];
+    super.computeIfPresent((K) key, ($k, $v) -> {
+      if (!(ret[0] = value.equals($v)))
+        return $v;
+
+      parentKeys.remove($k);
+      return null;
+    });
+    return ret[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public @Nullable V replace(K key, V value) {
+    requireNonNull(value);
+    var ret = new Object[1];
+    super.computeIfPresent(key, ($k, $v) -> {
+      ret[0] = $v;
+      parentKeys.remove($k);
+      return value;
+    });
+    return (V) ret[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@code key} becomes root, even if it was previously derived.
+   * </p>
+   */
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    requireNonNull(oldValue);
+    requireNonNull(newValue);
+    var ret = new boolean[1];
+    super.computeIfPresent(key, ($k, $v) -> {
+      if (!(ret[0] = oldValue.equals($v)))
+        return $v;
+
+      parentKeys.remove($k);
+      return newValue;
+    });
+    return ret[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Replaced keys become root, even if they were previously derived.
+   * </p>
+   */
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    requireNonNull(function);
+    for (K key : keySet()) {
+      computeIfPresent(key, ($k, $v) -> requireNonNull(function.apply($k, $v)));
+    }
+  }
+
+  /**
+   * Root keys.
+   *
+   * @return Snapshot of the current root keys.
+   */
+  public Set<K> rootKeySet() {
+    var ret = new HashSet<>(keySet());
+    ret.removeAll(parentKeys.keySet());
+    return ret;
+  }
+
+  /**
+   * Provides a sequence of keys related to the given one.
+   */
+  protected DynamicProvider<K> getRelatedKeysProvider() {
+    return relatedKeysProvider;
+  }
+
+  /**
+   * Associates a key to a value obtained from a related mapping.
+   * <p>
+   * The entry becomes visible as soon as this method returns.
+   * </p>
+   *
+   * @param key
+   *          New entry key.
+   * @param value
+   *          New entry value, obtained from {@code parentKey}.
+   * @param parentKey
+   *          Key whose mapping is reused by {@code key}.
+   * @implSpec This method is called within the atomic resolution of {@code key}: overriders MUST
+   *           NOT modify this map.
+   */
+  protected void putDynamic(K key, V value, K parentKey) {
+    parentKeys.put(key, parentKey);
+
+    if (log.isDebugEnabled()) {
+      log.debug("putDynamic: {} from {}", sqn(key), sqn(parentKey));
+    }
+  }
+
+  /**
+   * Resolves the implicit mapping of a missing key.
+   *
+   * @return {@code null}, if no related key is mapped.
+   */
+  private @Nullable V resolve(K key) {
+    if (log.isTraceEnabled()) {
+      log.trace("Related key SEARCH for {}", sqn(key));
+    }
+
+    Iterator<K> relatedKeysItr = relatedKeysProvider.apply(key).iterator();
+    while (relatedKeysItr.hasNext()) {
+      var relatedKey = relatedKeysItr.next();
+
+      if (log.isTraceEnabled()) {
+        log.trace("Related key: {}", sqn(relatedKey));
+      }
+
+      // Implicit mapping found?
+      V ret = super.get(relatedKey);
+      if (ret != null) {
+        if (log.isTraceEnabled()) {
+          log.trace("Related key MATCH for {}: {}", sqn(key), sqn(relatedKey));
+        }
+
+        // Make explicit the existing implicit mapping!
+        putDynamic(key, ret, relatedKey);
+        return ret;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Maps the given key as root.
+   * <p>
+   * Its parent link is cleared within the same atomic operation, so it cannot interleave with the
+   * concurrent resolution of {@code key}: either the resolution sees the written entry, or the
+   * write sees (and clears) the resolved link.
+   * </p>
+   *
+   * @param value
+   *          {@code null}, to remove the entry.
+   * @return Previous value.
+   */
+  private @Nullable V write(K key, @Nullable V value) {
+    var ret = new Object[1];
+    super.compute(key, ($k, $v) -> {
+      ret[0] = $v;
+      parentKeys.remove($k);
+      return value;
+    });
+    return (V) ret[0];
+  }
+}
@@ -13,33 +13,241 @@
 package org.pdfclown.common.util.collect;
 
 import static java.util.Objects.requireNonNull;
-import static org.pdfclown.common.util.Exceptions.TODO;
+import static org.pdfclown.common.util.Conditions.requireAtLeast;
+import static org.pdfclown.common.util.Exceptions.wrongArg;
 
-import java.util.ArrayDeque;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
 import org.jspecify.annotations.Nullable;
 
 /**
  * A deque which ensures element uniqueness, possibly extended across the whole life of the deque
  * (that is, once an element is removed, it cannot be reinserted anymore).
+ * <p>
+ * Elements are stored in a single linked hash table (each entry is both a hash bucket node and a
+ * deque link), so membership checks, insertions and removals (including arbitrary elements) take
+ * constant time. Each element costs one entry object plus its table slot (about 40 bytes on a
+ * 64-bit JVM with compressed references, some 15% less than {@link java.util.LinkedHashSet}).
+ * Like {@link java.util.ArrayDeque}, null elements are prohibited.
+ * </p>
+ * <p>
+ * Tracking can be either exact (removed elements are retained, so memory grows with the number of
+ * elements ever inserted) or probabilistic (removed elements are recorded into a fixed-size Bloom
+ * filter, so memory is bounded, at the cost of occasionally rejecting the insertion of an element
+ * which was never inserted before — see {@link #HashDeque(int, double)}).
+ * </p>
  *
  * @param <E>
  *          Element type.
  * @author Stefano Chizzolini
  */
-@SuppressWarnings("serial")
-public class HashDeque<E> extends ArrayDeque<E> {
-  private final Set<E> base = new HashSet<>();
+public class HashDeque<E> extends AbstractCollection<E> implements Deque<E> {
+  /**
+   * Bloom filter of removed elements (probabilistic tracking).
+   */
+  private static final class Filter {
+    final long[] bits;
+    final int bitCount;
+    final int hashCount;
+
+    Filter(int expectedCount, double falsePositiveRate) {
+      double bitCount = Math.ceil(-expectedCount * Math.log(falsePositiveRate)
+          / (Math.log(2) * Math.log(2)));
+      this.bitCount = (int) Math.min(Math.max(bitCount, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+      bits = new long[(this.bitCount + Long.SIZE - 1) / Long.SIZE];
+      hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedCount
+          * Math.log(2)));
+    }
+
+    void add(int hash) {
+      long hash1 = mix(hash);
+      long hash2 = mix(hash1) | 1;
+      for (int i = 0; i < hashCount; i++) {
+        int index = (int) Math.floorMod(hash1 + i * hash2, (long) bitCount);
+        bits[index >>> 6] |= 1L << index;
+      }
+    }
+
+    void clear() {
+      Arrays.fill(bits, 0L);
+    }
+
+    boolean mightContain(int hash) {
+      long hash1 = mix(hash);
+      long hash2 = mix(hash1) | 1;
+      for (int i = 0; i < hashCount; i++) {
+        int index = (int) Math.floorMod(hash1 + i * hash2, (long) bitCount);
+        if ((bits[index >>> 6] & (1L << index)) == 0)
+          return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Deque iterator.
+   */
+  private class Itr implements Iterator<E> {
+    private final boolean descending;
+    private int expectedModCount = modCount;
+    private @Nullable Node<E> last;
+    private @Nullable Node<E> next;
+
+    Itr(boolean descending) {
+      this.descending = descending;
+      next = descending ? tail : head;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public E next() {
+      checkModCount();
+
+      var ret = next;
+      if (ret == null)
+        throw new NoSuchElementException();
+
+      next = descending ? ret.before : ret.after;
+      last = ret;
+      return ret.element;
+    }
+
+    @Override
+    public void remove() {
+      checkModCount();
+
+      var last = this.last;
+      if (last == null)
+        throw new IllegalStateException();
+
+      this.last = null;
+      removeNode(last);
+      expectedModCount = modCount;
+    }
+
+    private void checkModCount() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Hash table entry.
+   * <p>
+   * Live entries are linked in deque order; removed entries retained for tracking are unlinked
+   * from the deque, but kept in their hash bucket, marked by a {@link #before} link to themselves
+   * (live entries never link to themselves, so no flag field is needed).
+   * </p>
+   */
+  private static final class Node<E> {
+    final E element;
+    final int hash;
+    /**
+     * Next entry in the same hash bucket.
+     */
+    @Nullable
+    Node<E> chained;
+
+    @Nullable
+    Node<E> after;
+    @Nullable
+    Node<E> before;
+
+    Node(E element, int hash, @Nullable Node<E> chained) {
+      this.element = element;
+      this.hash = hash;
+      this.chained = chained;
+    }
+
+    /**
+     * Whether this entry is part of the deque (otherwise, it is just tracked).
+     */
+    boolean isLive() {
+      return before != this;
+    }
+  }
+
+  private static final int CAPACITY__DEFAULT = 16;
+  private static final float LOAD_FACTOR = .75f;
 
+  private static int hash(Object o) {
+    int ret = o.hashCode();
+    return ret ^ (ret >>> 16);
+  }
+
+  /**
+   * Scrambles a hash (SplitMix64 finalizer).
+   */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D0_49BB_1331_11EBL;
+    return value ^ (value >>> 31);
+  }
+
+  /**
+   * Removed elements (probabilistic tracking only).
+   */
+  private final @Nullable Filter filter;
   private final boolean tracked;
 
+  private @Nullable Node<E> head;
+  private int modCount;
+  /**
+   * Number of entries in the hash table (both live and tracked).
+   */
+  private int nodeCount;
+  private int size;
+  private @Nullable Node<E>[] table;
+  private @Nullable Node<E> tail;
+
   public HashDeque(boolean tracked) {
     this.tracked = tracked;
+    filter = null;
+    table = newTable(CAPACITY__DEFAULT);
+  }
+
+  /**
+   * Creates a {@linkplain #isTracked() tracked} deque whose memory footprint is bounded.
+   * <p>
+   * Elements currently in the deque are tracked exactly, whereas removed elements are recorded
+   * into a Bloom filter sized on {@code expectedCount}: as the number of removed elements exceeds
+   * it, the false-positive rate degrades beyond {@code falsePositiveRate}, but memory stays
+   * fixed. A false positive causes the insertion of an element to be rejected as if it had
+   * already been inserted.
+   * </p>
+   * <p>
+   * As the filter records only the {@linkplain Object#hashCode() hash codes} of removed elements,
+   * {@code falsePositiveRate} applies on top of a floor set by hash collisions: any element whose
+   * hash code equals the one of a removed element is always rejected, whatever the filter size.
+   * </p>
+   *
+   * @param expectedCount
+   *          Expected number of elements to remove over the life of the deque (or until
+   *          {@linkplain #clear(boolean) reset}).
+   * @param falsePositiveRate
+   *          Probability (between 0 and 1, exclusive) that a never-inserted element is mistaken
+   *          for a removed one.
+   */
+  public HashDeque(int expectedCount, double falsePositiveRate) {
+    requireAtLeast(expectedCount, 1, "expectedCount");
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+      throw wrongArg("falsePositiveRate", falsePositiveRate, "MUST be between 0 and 1 (exclusive)");
+
+    tracked = true;
+    filter = new Filter(expectedCount, falsePositiveRate);
+    table = newTable(CAPACITY__DEFAULT);
   }
 
   public HashDeque(boolean tracked, Collection<? extends E> c) {
@@ -50,11 +258,7 @@ public class HashDeque<E> extends ArrayDeque<E> {
 
   @Override
   public boolean add(E e) {
-    if (!base.add(e))
-      return false;
-
-    super.addLast(e);
-    return true;
+    return insert(e, false);
   }
 
   @Override
@@ -77,6 +281,12 @@ public class HashDeque<E> extends ArrayDeque<E> {
     offerFirst(e);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Insertion occurs only if {@code e} has not already inserted.
+   * </p>
+   */
   @Override
   public final void addLast(E e) {
     add(e);
@@ -94,22 +304,76 @@ public class HashDeque<E> extends ArrayDeque<E> {
    *          Whether element tracking is reset.
    */
   public void clear(boolean reset) {
-    super.clear();
-    if (reset) {
-      base.clear();
+    var filter = this.filter;
+    if (reset || filter != null) {
+      if (filter != null) {
+        if (reset) {
+          filter.clear();
+        } else {
+          for (var node = head; node != null; node = node.after) {
+            filter.add(node.hash);
+          }
+        }
+      }
+      table = newTable(CAPACITY__DEFAULT);
+      nodeCount = 0;
+    } else {
+      for (var node = head; node != null;) {
+        var next = node.after;
+        node.after = null;
+        node.before = node;
+        node = next;
+      }
     }
+    head = tail = null;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    var node = findNode(o);
+    return node != null && node.isLive();
   }
 
   @Override
   public Iterator<E> descendingIterator() {
-    throw TODO();
+    return new Itr(true);
+  }
+
+  @Override
+  public final E element() {
+    return getFirst();
+  }
+
+  @Override
+  public E getFirst() {
+    var head = this.head;
+    if (head == null)
+      throw new NoSuchElementException();
+
+    return head.element;
+  }
+
+  @Override
+  public E getLast() {
+    var tail = this.tail;
+    if (tail == null)
+      throw new NoSuchElementException();
+
+    return tail.element;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
   }
 
   /**
    * Whether elements are tracked after they are removed, making their insertion unique across the
    * whole life of this instance (or until {@linkplain #clear(boolean) reset}); otherwise, they are
    * forgotten as soon as they are removed, making them unique only as long as they are contained in
-   * this deque, like a {@link Set}.
+   * this deque, like a {@link java.util.Set Set}.
    */
   public boolean isTracked() {
     return tracked;
@@ -117,43 +381,17 @@ public class HashDeque<E> extends ArrayDeque<E> {
 
   @Override
   public Iterator<E> iterator() {
-    return new Iterator<>() {
-      final Iterator<E> base = HashDeque.super.iterator();
-      @Nullable
-      E next;
-
-      @Override
-      public boolean hasNext() {
-        return base.hasNext();
-      }
-
-      @Override
-      public E next() {
-        return next = base.next();
-      }
-
-      @Override
-      public void remove() {
-        Iterator.super.remove();
-        if (!tracked) {
-          HashDeque.this.base.remove(next);
-        }
-      }
-    };
+    return new Itr(false);
   }
 
   @Override
   public final boolean offer(E e) {
-    return super.offer(e);
+    return offerLast(e);
   }
 
   @Override
   public boolean offerFirst(E e) {
-    if (!base.add(e))
-      return false;
-
-    super.addFirst(e);
-    return true;
+    return insert(e, true);
   }
 
   @Override
@@ -162,46 +400,65 @@ public class HashDeque<E> extends ArrayDeque<E> {
   }
 
   @Override
-  public final E poll() {
-    return super.poll();
+  public final @Nullable E peek() {
+    return peekFirst();
+  }
+
+  @Override
+  public @Nullable E peekFirst() {
+    var head = this.head;
+    return head != null ? head.element : null;
+  }
+
+  @Override
+  public @Nullable E peekLast() {
+    var tail = this.tail;
+    return tail != null ? tail.element : null;
+  }
+
+  @Override
+  public final @Nullable E poll() {
+    return pollFirst();
   }
 
   @Override
   public @Nullable E pollFirst() {
-    var ret = super.pollFirst();
-    if (!tracked) {
-      base.remove(ret);
-    }
-    return ret;
+    var head = this.head;
+    if (head == null)
+      return null;
+
+    removeNode(head);
+    return head.element;
   }
 
   @Override
   public @Nullable E pollLast() {
-    var ret = super.pollLast();
-    if (!tracked) {
-      base.remove(ret);
-    }
-    return ret;
+    var tail = this.tail;
+    if (tail == null)
+      return null;
+
+    removeNode(tail);
+    return tail.element;
   }
 
   @Override
   public final E pop() {
-    return super.pop();
+    return removeFirst();
   }
 
   @Override
   public final void push(E e) {
-    super.push(e);
+    addFirst(e);
   }
 
   @Override
   public final E remove() {
-    return super.remove();
+    return removeFirst();
   }
 
   @Override
   public final boolean remove(@Nullable Object o) {
-    return super.remove(o);
+    return removeFirstOccurrence(o);
   }
 
   @Override
@@ -215,25 +472,27 @@ public class HashDeque<E> extends ArrayDeque<E> {
 
   @Override
   public final E removeFirst() {
-    return super.removeFirst();
+    var ret = pollFirst();
+    if (ret == null)
+      throw new NoSuchElementException();
+
+    return ret;
   }
 
   @Override
   public boolean removeFirstOccurrence(@Nullable Object o) {
-    var ret = super.removeFirstOccurrence(o);
-    if (ret && !tracked) {
-      //noinspection SuspiciousMethodCalls
-      base.remove(o);
-    }
-    return ret;
+    var node = findNode(o);
+    if (node == null || !node.isLive())
+      return false;
+
+    removeNode(node);
+    return true;
   }
 
   @Override
   public final boolean removeIf(Predicate<? super E> filter) {
+    requireNonNull(filter);
     int oldSize = size();
-    /*
-     * NOTE: Cannot delegate to super.removeIf(..) as we have to track removal via custom iterator.
-     */
     //noinspection Java8CollectionRemoveIf
     for (var itr = iterator(); itr.hasNext();) {
       var e = itr.next();
@@ -246,7 +505,11 @@ public class HashDeque<E> extends ArrayDeque<E> {
 
   @Override
   public final E removeLast() {
-    return super.removeLast();
+    var ret = pollLast();
+    if (ret == null)
+      throw new NoSuchElementException();
+
+    return ret;
   }
 
   /**
@@ -264,8 +527,143 @@ public class HashDeque<E> extends ArrayDeque<E> {
     return removeIf($ -> !c.contains($));
   }
 
+  @Override
+  public int size() {
+    return size;
+  }
+
   @Override
   public Spliterator<E> spliterator() {
-    throw TODO();
+    return Spliterators.spliterator(this,
+        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+  }
+
+  private @Nullable Node<E> findNode(@Nullable Object o) {
+    if (o == null)
+      return null;
+
+    int hash = hash(o);
+    var table = this.table;
+    for (var node = table[hash & (table.length - 1)]; node != null; node = node.chained) {
+      if (node.hash == hash && node.element.equals(o))
+        return node;
+    }
+    return null;
+  }
+
+  /**
+   * Inserts an element, unless already present (or tracked).
+   *
+   * @param first
+   *          Whether {@code e} is inserted at the head of this deque (otherwise, at its tail).
+   */
+  private boolean insert(E e, boolean first) {
+    requireNonNull(e, "e");
+
+    if (findNode(e) != null)
+      return false;
+
+    int hash = hash(e);
+    if (filter != null && filter.mightContain(hash))
+      return false;
+
+    if (nodeCount >= table.length * LOAD_FACTOR) {
+      resize();
+    }
+    var table = this.table;
+    int index = hash & (table.length - 1);
+    var node = table[index] = new Node<>(e, hash, table[index]);
+    nodeCount++;
+
+    // Link the node into the deque!
+    if (first) {
+      var head = this.head;
+      node.after = head;
+      if (head != null) {
+        head.before = node;
+      } else {
+        tail = node;
+      }
+      this.head = node;
+    } else {
+      var tail = this.tail;
+      node.before = tail;
+      if (tail != null) {
+        tail.after = node;
+      } else {
+        head = node;
+      }
+      this.tail = node;
+    }
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable Node<E>[] newTable(int capacity) {
+    return (Node<E>[]) new Node<?>[capacity];
+  }
+
+  /**
+   * Removes a live node from this deque, forgetting its element unless exactly tracked.
+   */
+  private void removeNode(Node<E> node) {
+    // Unlink the node from the deque!
+    var before = node.before;
+    var after = node.after;
+    if (before != null) {
+      before.after = after;
+    } else {
+      head = after;
+    }
+    if (after != null) {
+      after.before = before;
+    } else {
+      tail = before;
+    }
+    node.after = null;
+    node.before = node;
+    size--;
+    modCount++;
+
+    // Unlink the node from the hash table!
+    if (!tracked || filter != null) {
+      if (filter != null) {
+        filter.add(node.hash);
+      }
+
+      var table = this.table;
+      int index = node.hash & (table.length - 1);
+      Node<E> prev = null;
+      for (var current = table[index]; current != null; prev = current,
+          current = current.chained) {
+        if (current == node) {
+          if (prev != null) {
+            prev.chained = node.chained;
+          } else {
+            table[index] = node.chained;
+          }
+          nodeCount--;
+          break;
+        }
+      }
+    }
+  }
+
+  private void resize() {
+    var oldTable = table;
+    var table = newTable(oldTable.length << 1);
+    int mask = table.length - 1;
+    for (var node : oldTable) {
+      while (node != null) {
+        var next = node.chained;
+        int index = node.hash & mask;
+        node.chained = table[index];
+        table[index] = node;
+        node = next;
+      }
+    }
+    this.table = table;
   }
 }
@@ -0,0 +1,185 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (IntRange.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import org.jspecify.annotations.Nullable;
+import org.pdfclown.common.util.annot.Immutable;
+
+/**
+ * Interval of {@code int} values.
+ * <p>
+ * Primitive counterpart of {@link Range Range&lt;Integer&gt;}, free from boxing and comparator
+ * indirection. Since the domain is discrete, the interval is normalized to its inclusive
+ * {@linkplain #getMin() min} and {@linkplain #getMax() max} (for example, {@code (0,5)} is
+ * {@code [1,4]}); an unbounded endpoint corresponds to the respective extreme value.
+ * </p>
+ *
+ * @author Stefano Chizzolini
+ */
+@Immutable
+public final class IntRange {
+  private static final IntRange ALL = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+  private static final IntRange EMPTY = new IntRange(Integer.MAX_VALUE, Integer.MIN_VALUE);
+  private static final IntRange NORMAL = new IntRange(0, 1);
+
+  /**
+   * Range of all the values.
+   */
+  public static IntRange all() {
+    return ALL;
+  }
+
+  /**
+   * New range, inclusive of lower endpoint.
+   */
+  public static IntRange atLeast(int lower) {
+    return of(lower, Integer.MAX_VALUE);
+  }
+
+  /**
+   * New range, inclusive of upper endpoint.
+   */
+  public static IntRange atMost(int upper) {
+    return of(Integer.MIN_VALUE, upper);
+  }
+
+  /**
+   * New range, inclusive of both endpoints.
+   */
+  public static IntRange closed(int lower, int upper) {
+    return of(lower, upper);
+  }
+
+  /**
+   * New range, exclusive of lower endpoint.
+   */
+  public static IntRange greaterThan(int lower) {
+    return of((long) lower + 1, Integer.MAX_VALUE);
+  }
+
+  /**
+   * New range, exclusive of upper endpoint.
+   */
+  public static IntRange lessThan(int upper) {
+    return of(Integer.MIN_VALUE, (long) upper - 1);
+  }
+
+  /**
+   * Gets the normal range (that is {@code 0} to {@code 1}, inclusive).
+   */
+  public static IntRange normal() {
+    return NORMAL;
+  }
+
+  /**
+   * Gets the primitive range equivalent to the range.
+   */
+  public static IntRange of(Range<Integer> range) {
+    var lower = range.getLower();
+    var upper = range.getUpper();
+    return of(
+        lower.isBounded()
+            ? (lower.isClosed() ? lower.getValue() : (long) lower.getValue() + 1)
+            : Integer.MIN_VALUE,
+        upper.isBounded()
+            ? (upper.isClosed() ? upper.getValue() : (long) upper.getValue() - 1)
+            : Integer.MAX_VALUE);
+  }
+
+  /**
+   * New range, exclusive of both endpoints.
+   */
+  public static IntRange open(int lower, int upper) {
+    return of((long) lower + 1, (long) upper - 1);
+  }
+
+  private static IntRange of(long min, long max) {
+    if (min > max)
+      return EMPTY;
+    else if (min == 0 && max == 1)
+      return NORMAL;
+    else if (min == Integer.MIN_VALUE && max == Integer.MAX_VALUE)
+      return ALL;
+    else
+      return new IntRange((int) min, (int) max);
+  }
+
+  private final int max;
+  private final int min;
+
+  private IntRange(int min, int max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Gets whether the value is contained within this interval.
+   */
+  public boolean contains(int value) {
+    return value >= min && value <= max;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    return this == o || (o instanceof IntRange that
+        && this.min == that.min
+        && this.max == that.max);
+  }
+
+  /**
+   * Greatest value contained in this interval.
+   * <p>
+   * NOTE: If {@linkplain #isEmpty() empty}, it is less than {@link #getMin() min}.
+   * </p>
+   */
+  public int getMax() {
+    return max;
+  }
+
+  /**
+   * Least value contained in this interval.
+   * <p>
+   * NOTE: If {@linkplain #isEmpty() empty}, it is greater than {@link #getMax() max}.
+   * </p>
+   */
+  public int getMin() {
+    return min;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(min) + Integer.hashCode(max);
+  }
+
+  /**
+   * Whether this interval contains no value.
+   */
+  public boolean isEmpty() {
+    return min > max;
+  }
+
+  /**
+   * Gets the generic range equivalent to this interval.
+   */
+  public Range<Integer> toRange() {
+    return isEmpty() ? Range.open(0, 0)
+        : Range.closed(
+            min != Integer.MIN_VALUE ? min : null,
+            max != Integer.MAX_VALUE ? max : null);
+  }
+
+  @Override
+  public String toString() {
+    return toRange().toString();
+  }
+}
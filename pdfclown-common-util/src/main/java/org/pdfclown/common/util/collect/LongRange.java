@@ -0,0 +1,199 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (LongRange.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import org.jspecify.annotations.Nullable;
+import org.pdfclown.common.util.annot.Immutable;
+
+/**
+ * Interval of {@code long} values.
+ * <p>
+ * Primitive counterpart of {@link Range Range&lt;Long&gt;}, free from boxing and comparator
+ * indirection. Since the domain is discrete, the interval is normalized to its inclusive
+ * {@linkplain #getMin() min} and {@linkplain #getMax() max} (for example, {@code (0,5)} is
+ * {@code [1,4]}); an unbounded endpoint corresponds to the respective extreme value.
+ * </p>
+ *
+ * @author Stefano Chizzolini
+ */
+@Immutable
+public final class LongRange {
+  private static final LongRange ALL = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE);
+  private static final LongRange EMPTY = new LongRange(Long.MAX_VALUE, Long.MIN_VALUE);
+  private static final LongRange NORMAL = new LongRange(0, 1);
+
+  /**
+   * Range of all the values.
+   */
+  public static LongRange all() {
+    return ALL;
+  }
+
+  /**
+   * New range, inclusive of lower endpoint.
+   */
+  public static LongRange atLeast(long lower) {
+    return of(lower, Long.MAX_VALUE);
+  }
+
+  /**
+   * New range, inclusive of upper endpoint.
+   */
+  public static LongRange atMost(long upper) {
+    return of(Long.MIN_VALUE, upper);
+  }
+
+  /**
+   * New range, inclusive of both endpoints.
+   */
+  public static LongRange closed(long lower, long upper) {
+    return of(lower, upper);
+  }
+
+  /**
+   * New range, exclusive of lower endpoint.
+   */
+  public static LongRange greaterThan(long lower) {
+    return lower < Long.MAX_VALUE ? of(lower + 1, Long.MAX_VALUE) : EMPTY;
+  }
+
+  /**
+   * New range, exclusive of upper endpoint.
+   */
+  public static LongRange lessThan(long upper) {
+    return upper > Long.MIN_VALUE ? of(Long.MIN_VALUE, upper - 1) : EMPTY;
+  }
+
+  /**
+   * Gets the normal range (that is {@code 0} to {@code 1}, inclusive).
+   */
+  public static LongRange normal() {
+    return NORMAL;
+  }
+
+  /**
+   * Gets the primitive range equivalent to the range.
+   */
+  public static LongRange of(Range<Long> range) {
+    long min;
+    var lower = range.getLower();
+    if (!lower.isBounded()) {
+      min = Long.MIN_VALUE;
+    } else if (lower.isClosed()) {
+      min = lower.getValue();
+    } else if (lower.getValue() < Long.MAX_VALUE) {
+      min = lower.getValue() + 1;
+    } else
+      return EMPTY;
+
+    long max;
+    var upper = range.getUpper();
+    if (!upper.isBounded()) {
+      max = Long.MAX_VALUE;
+    } else if (upper.isClosed()) {
+      max = upper.getValue();
+    } else if (upper.getValue() > Long.MIN_VALUE) {
+      max = upper.getValue() - 1;
+    } else
+      return EMPTY;
+
+    return of(min, max);
+  }
+
+  /**
+   * New range, exclusive of both endpoints.
+   */
+  public static LongRange open(long lower, long upper) {
+    return lower < upper ? of(lower + 1, upper - 1) : EMPTY;
+  }
+
+  private static LongRange of(long min, long max) {
+    if (min > max)
+      return EMPTY;
+    else if (min == 0 && max == 1)
+      return NORMAL;
+    else if (min == Long.MIN_VALUE && max == Long.MAX_VALUE)
+      return ALL;
+    else
+      return new LongRange(min, max);
+  }
+
+  private final long max;
+  private final long min;
+
+  private LongRange(long min, long max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Gets whether the value is contained within this interval.
+   */
+  public boolean contains(long value) {
+    return value >= min && value <= max;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    return this == o || (o instanceof LongRange that
+        && this.min == that.min
+        && this.max == that.max);
+  }
+
+  /**
+   * Greatest value contained in this interval.
+   * <p>
+   * NOTE: If {@linkplain #isEmpty() empty}, it is less than {@link #getMin() min}.
+   * </p>
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Least value contained in this interval.
+   * <p>
+   * NOTE: If {@linkplain #isEmpty() empty}, it is greater than {@link #getMax() max}.
+   * </p>
+   */
+  public long getMin() {
+    return min;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(min) + Long.hashCode(max);
+  }
+
+  /**
+   * Whether this interval contains no value.
+   */
+  public boolean isEmpty() {
+    return min > max;
+  }
+
+  /**
+   * Gets the generic range equivalent to this interval.
+   */
+  public Range<Long> toRange() {
+    return isEmpty() ? Range.open(0L, 0L)
+        : Range.closed(
+            min != Long.MIN_VALUE ? min : null,
+            max != Long.MAX_VALUE ? max : null);
+  }
+
+  @Override
+  public String toString() {
+    return toRange().toString();
+  }
+}
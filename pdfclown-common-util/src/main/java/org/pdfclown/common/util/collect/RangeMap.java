@@ -0,0 +1,549 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (RangeMap.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static java.util.Objects.requireNonNull;
+import static org.pdfclown.common.util.Exceptions.wrongState;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.pdfclown.common.util.annot.Immutable;
+
+/**
+ * Immutable index of intervals mapped to values.
+ * <p>
+ * Answers stabbing (which intervals contain a value) and overlap (which intervals intersect an
+ * interval) queries without scanning: intervals are sorted by lower endpoint and organized as an
+ * implicit balanced search tree augmented with the greatest upper endpoint of each subtree, so a
+ * query visits only the subtrees which may contain matches — that is, {@code O(log n)} for no
+ * match, up to {@code O(k log n)} for {@code k} matches (but never more than {@code O(n)}).
+ * </p>
+ * <p>
+ * Endpoints are compared either via explicit comparator or, if missing, by natural order; in the
+ * latter case, if all the endpoints are numbers, they are compared mathematically (like
+ * {@linkplain Range#numeric(Range) numeric ranges}, but without precision loss) and queries can be
+ * submitted as primitive {@code double}s (see {@link #getDouble(double)}). Furthermore, if all the
+ * endpoints are exactly representable as {@code double} ({@link Byte}, {@link Short},
+ * {@link Integer}, {@link Float}, {@link Double}), they are indexed as such, skipping boxing and
+ * comparators altogether; in this case, numeric queries are converted to {@code double} too, so
+ * values beyond its precision (such as {@link Long}s greater than 2<sup>53</sup>) may be rounded
+ * to a matching endpoint.
+ * </p>
+ *
+ * @param <T>
+ *          Value type of the intervals.
+ * @param <V>
+ *          Mapped value type.
+ * @author Stefano Chizzolini
+ * @see RangeSet
+ */
+@Immutable
+public final class RangeMap<T, V> {
+  /**
+   * Index builder.
+   * <p>
+   * Collects the entries to index in bulk (unlike {@link Map}, the same interval may be mapped
+   * multiple times).
+   * </p>
+   *
+   * @param <T>
+   *          Value type of the intervals.
+   * @param <V>
+   *          Mapped value type.
+   * @author Stefano Chizzolini
+   */
+  public static final class Builder<T, V> {
+    private final @Nullable Comparator<? super T> comparator;
+    private final List<Range<T>> ranges = new ArrayList<>();
+    private final List<V> values = new ArrayList<>();
+
+    private Builder(@Nullable Comparator<? super T> comparator) {
+      this.comparator = comparator;
+    }
+
+    /**
+     * Builds the index of the collected entries.
+     * <p>
+     * This builder can be further used after this call, independently from the built index.
+     * </p>
+     */
+    public RangeMap<T, V> build() {
+      return new RangeMap<>(ranges, values, comparator);
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param range
+     *          Interval (if empty, it is ignored).
+     */
+    public Builder<T, V> put(Range<T> range, V value) {
+      ranges.add(requireNonNull(range, "`range`"));
+      values.add(value);
+      return this;
+    }
+
+    /**
+     * Adds the entries.
+     */
+    public Builder<T, V> putAll(Map<Range<T>, ? extends V> entries) {
+      for (var entry : entries.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Compares numbers mathematically, without precision loss.
+   */
+  private static final Comparator<Object> NUMBER_COMPARATOR =
+      ($1, $2) -> compareNumbers((Number) $1, (Number) $2);
+
+  /**
+   * New index builder, comparing endpoints by natural order.
+   */
+  public static <T, V> Builder<T, V> builder() {
+    return new Builder<>(null);
+  }
+
+  /**
+   * New index builder, comparing endpoints by comparator.
+   */
+  public static <T, V> Builder<T, V> builder(Comparator<? super T> comparator) {
+    return new Builder<>(requireNonNull(comparator, "`comparator`"));
+  }
+
+  /**
+   * New index, comparing endpoints by natural order.
+   *
+   * @param entries
+   *          Intervals mapped to their values (empty intervals are ignored).
+   */
+  public static <T, V> RangeMap<T, V> of(Map<Range<T>, V> entries) {
+    return RangeMap.<T, V>builder().putAll(entries).build();
+  }
+
+  /**
+   * New index, comparing endpoints by comparator.
+   *
+   * @param entries
+   *          Intervals mapped to their values (empty intervals are ignored).
+   */
+  public static <T, V> RangeMap<T, V> of(Map<Range<T>, V> entries,
+      Comparator<? super T> comparator) {
+    return RangeMap.<T, V>builder(comparator).putAll(entries).build();
+  }
+
+  private static int compareNumbers(Number n1, Number n2) {
+    double d1 = n1.doubleValue();
+    double d2 = n2.doubleValue();
+    /*
+     * NOTE: Conversion to `double` preserves order (non-strictly), so distinct `double`s already
+     * reflect the order of their numbers; only coinciding finite ones need exact comparison.
+     */
+    if (d1 != d2 || !Double.isFinite(d1))
+      return Double.compare(d1, d2);
+
+    return toBigDecimal(n1).compareTo(toBigDecimal(n2));
+  }
+
+  /**
+   * Whether all the endpoints are exactly representable as {@code double} (at least one bounded
+   * endpoint is required).
+   */
+  private static boolean isDoubleExact(List<? extends Range<?>> ranges) {
+    boolean ret = false;
+    for (var range : ranges) {
+      for (var endpoint : List.of(range.getLower(), range.getUpper())) {
+        if (endpoint.isBounded()) {
+          if (!isDoubleExact(endpoint.getValue()))
+            return false;
+
+          ret = true;
+        }
+      }
+    }
+    return ret;
+  }
+
+  private static boolean isDoubleExact(@Nullable Object value) {
+    return value instanceof Double || value instanceof Float || value instanceof Integer
+        || value instanceof Short || value instanceof Byte;
+  }
+
+  /**
+   * Whether all the endpoints are numbers.
+   */
+  private static boolean isNumeric(List<? extends Range<?>> ranges) {
+    for (var range : ranges) {
+      if ((range.getLower().isBounded() && !(range.getLower().getValue() instanceof Number))
+          || (range.getUpper().isBounded() && !(range.getUpper().getValue() instanceof Number)))
+        return false;
+    }
+    return true;
+  }
+
+  private static BigDecimal toBigDecimal(Number value) {
+    if (value instanceof BigDecimal d)
+      return d;
+    else if (value instanceof BigInteger i)
+      return new BigDecimal(i);
+    else if (value instanceof Long || value instanceof Integer || value instanceof Short
+        || value instanceof Byte)
+      return BigDecimal.valueOf(value.longValue());
+    else
+      return new BigDecimal(value.doubleValue());
+  }
+
+  private final Comparator<Object> comparator;
+  /**
+   * Greatest position of each interval (sorted by {@link #mins}).
+   */
+  private final double[] maxs;
+  /**
+   * Least position of each interval (ascending).
+   */
+  private final double[] mins;
+  /**
+   * Whether endpoints are compared mathematically.
+   */
+  private final boolean numeric;
+  /**
+   * Distinct endpoint values (ascending; empty in value-position mode).
+   */
+  private final Object[] points;
+  private final Range<T>[] ranges;
+  /**
+   * Greatest position of each subtree (indexed by subtree root).
+   */
+  private final double[] subtreeMaxs;
+  /**
+   * Whether positions are the endpoint values themselves (otherwise, they are derived from
+   * {@link #points}).
+   */
+  private final boolean valuePositions;
+  private final Object[] values;
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private RangeMap(List<Range<T>> ranges, List<V> values,
+      @Nullable Comparator<? super T> comparator) {
+    numeric = comparator == null && isNumeric(ranges);
+    valuePositions = numeric && isDoubleExact(ranges);
+    this.comparator = (Comparator) (comparator != null ? comparator
+        : numeric ? NUMBER_COMPARATOR : Comparator.naturalOrder());
+
+    // Collect the endpoint values (rank-position mode)!
+    if (valuePositions) {
+      points = new Object[0];
+    } else {
+      var points = new ArrayList<>(ranges.size() * 2);
+      for (var range : ranges) {
+        if (range.getLower().isBounded()) {
+          points.add(range.getLower().getValue());
+        }
+        if (range.getUpper().isBounded()) {
+          points.add(range.getUpper().getValue());
+        }
+      }
+      points.sort(this.comparator);
+      int count = 0;
+      for (int i = 0, length = points.size(); i < length; i++) {
+        if (count == 0 || this.comparator.compare(points.get(count - 1), points.get(i)) != 0) {
+          points.set(count++, points.get(i));
+        }
+      }
+      this.points = points.subList(0, count).toArray();
+    }
+
+    // Resolve the interval positions!
+    int count;
+    int size = ranges.size();
+    var mins = new double[size];
+    var maxs = new double[size];
+    var indexes = new Integer[size];
+    {
+      int i = 0;
+      for (int j = 0; j < size; j++) {
+        var range = ranges.get(j);
+        double min = lowerPosition(range.getLower());
+        double max = upperPosition(range.getUpper());
+        // Empty interval?
+        if (!(min <= max)) {
+          continue;
+        }
+
+        mins[j] = min;
+        maxs[j] = max;
+        indexes[i++] = j;
+      }
+      count = i;
+
+      // Sort by lower endpoint!
+      Arrays.sort(indexes, 0, count, Comparator.comparingDouble($ -> mins[$]));
+      this.mins = new double[count];
+      this.maxs = new double[count];
+      this.ranges = new Range[count];
+      this.values = new Object[count];
+      for (i = 0; i < count; i++) {
+        int index = indexes[i];
+        this.mins[i] = mins[index];
+        this.maxs[i] = maxs[index];
+        this.ranges[i] = ranges.get(index);
+        this.values[i] = values.get(index);
+      }
+    }
+
+    subtreeMaxs = new double[count];
+    buildTree(0, count);
+  }
+
+  /**
+   * Gets the values of the intervals containing the value.
+   *
+   * @return Values, sorted by interval lower endpoint.
+   */
+  public List<V> get(T value) {
+    var ret = new ArrayList<V>();
+    collectStabbing(0, ranges.length, position(value), ret);
+    return ret;
+  }
+
+  /**
+   * Gets the values of the intervals containing the number.
+   * <p>
+   * Primitive counterpart of {@link #get(Object)}, free from boxing if all the endpoints are exactly
+   * representable as {@code double}.
+   * </p>
+   *
+   * @return Values, sorted by interval lower endpoint.
+   * @throws IllegalStateException
+   *           if this index is not numeric.
+   */
+  @SuppressWarnings("unchecked")
+  public List<V> getDouble(double value) {
+    if (!numeric)
+      throw wrongState("Index NOT numeric");
+    else if (!valuePositions)
+      return get((T) Double.valueOf(value));
+
+    var ret = new ArrayList<V>();
+    collectStabbing(0, ranges.length, value, ret);
+    return ret;
+  }
+
+  /**
+   * Gets the values of the intervals overlapping the interval.
+   *
+   * @return Values, sorted by interval lower endpoint.
+   */
+  public List<V> getOverlapping(Range<T> range) {
+    var ret = new ArrayList<V>();
+    double min = lowerPosition(range.getLower());
+    double max = upperPosition(range.getUpper());
+    if (min <= max) {
+      collectOverlapping(0, ranges.length, min, max, ret);
+    }
+    return ret;
+  }
+
+  /**
+   * Whether this index is numeric (that is, its endpoints are compared mathematically).
+   */
+  public boolean isNumeric() {
+    return numeric;
+  }
+
+  /**
+   * Indexed intervals.
+   *
+   * @return Intervals, sorted by lower endpoint (empty ones excluded).
+   */
+  public List<Range<T>> ranges() {
+    return List.of(ranges);
+  }
+
+  /**
+   * Number of indexed intervals.
+   */
+  public int size() {
+    return ranges.length;
+  }
+
+  @Override
+  public String toString() {
+    var b = new StringBuilder("{");
+    for (int i = 0; i < ranges.length; i++) {
+      if (i > 0) {
+        b.append(", ");
+      }
+      b.append(ranges[i]).append('=').append(values[i]);
+    }
+    return b.append('}').toString();
+  }
+
+  /**
+   * Whether any interval contains the value.
+   * <p>
+   * Stops at the first match.
+   * </p>
+   */
+  boolean contains(T value) {
+    return containsPosition(0, ranges.length, position(value));
+  }
+
+  /**
+   * Whether any interval contains the number.
+   * <p>
+   * Primitive counterpart of {@link #contains(Object)} (see {@link #getDouble(double)}).
+   * </p>
+   *
+   * @throws IllegalStateException
+   *           if this index is not numeric.
+   */
+  @SuppressWarnings("unchecked")
+  boolean containsDouble(double value) {
+    if (!numeric)
+      throw wrongState("Index NOT numeric");
+    else if (!valuePositions)
+      return contains((T) Double.valueOf(value));
+
+    return containsPosition(0, ranges.length, value);
+  }
+
+  /**
+   * @return Greatest position of the subtree.
+   */
+  private double buildTree(int low, int high) {
+    if (low >= high)
+      return Double.NEGATIVE_INFINITY;
+
+    int mid = (low + high) >>> 1;
+    return subtreeMaxs[mid] = Math.max(maxs[mid],
+        Math.max(buildTree(low, mid), buildTree(mid + 1, high)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collectOverlapping(int low, int high, double min, double max, List<V> result) {
+    if (low >= high)
+      return;
+
+    int mid = (low + high) >>> 1;
+    if (subtreeMaxs[mid] < min)
+      return;
+
+    collectOverlapping(low, mid, min, max, result);
+    if (mins[mid] <= max) {
+      if (maxs[mid] >= min) {
+        result.add((V) values[mid]);
+      }
+      collectOverlapping(mid + 1, high, min, max, result);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collectStabbing(int low, int high, double position, List<V> result) {
+    if (low >= high)
+      return;
+
+    int mid = (low + high) >>> 1;
+    // NOTE: NaN matches nothing.
+    if (!(subtreeMaxs[mid] >= position))
+      return;
+
+    collectStabbing(low, mid, position, result);
+    if (mins[mid] <= position) {
+      if (maxs[mid] >= position) {
+        result.add((V) values[mid]);
+      }
+      collectStabbing(mid + 1, high, position, result);
+    }
+  }
+
+  private boolean containsPosition(int low, int high, double position) {
+    if (low >= high)
+      return false;
+
+    int mid = (low + high) >>> 1;
+    // NOTE: NaN matches nothing.
+    if (!(subtreeMaxs[mid] >= position))
+      return false;
+    else if (containsPosition(low, mid, position))
+      return true;
+    else if (!(mins[mid] <= position))
+      return false;
+
+    return maxs[mid] >= position || containsPosition(mid + 1, high, position);
+  }
+
+  /**
+   * Gets the least position included by a lower endpoint.
+   * <p>
+   * In rank-position mode, positions are derived from the ranks of endpoint values: even positions
+   * ({@code 2r}) correspond to {@link #points} themselves, odd positions ({@code 2r+1}) to the gaps
+   * between them.
+   * </p>
+   *
+   * @return NaN, if nothing is included.
+   */
+  private double lowerPosition(Range.Endpoint<?> endpoint) {
+    if (!endpoint.isBounded())
+      return Double.NEGATIVE_INFINITY;
+    else if (valuePositions) {
+      double value = ((Number) endpoint.getValue()).doubleValue();
+      return endpoint.isClosed() ? value
+          : value < Double.POSITIVE_INFINITY ? Math.nextUp(value) : Double.NaN;
+    } else {
+      int index = Arrays.binarySearch(points, endpoint.getValue(), comparator);
+      return index >= 0 ? 2d * index + (endpoint.isClosed() ? 0 : 1) : 2d * -(index + 1) - 1;
+    }
+  }
+
+  /**
+   * Gets the position of a value.
+   */
+  private double position(T value) {
+    // NOTE: NaN matches nothing.
+    if (valuePositions
+        || (numeric && value instanceof Number n && Double.isNaN(n.doubleValue())))
+      return ((Number) value).doubleValue();
+
+    int index = Arrays.binarySearch(points, value, comparator);
+    return index >= 0 ? 2d * index : 2d * -(index + 1) - 1;
+  }
+
+  /**
+   * Gets the greatest position included by an upper endpoint.
+   *
+   * @return NaN, if nothing is included.
+   * @see #lowerPosition(Range.Endpoint)
+   */
+  private double upperPosition(Range.Endpoint<?> endpoint) {
+    if (!endpoint.isBounded())
+      return Double.POSITIVE_INFINITY;
+    else if (valuePositions) {
+      double value = ((Number) endpoint.getValue()).doubleValue();
+      return endpoint.isClosed() ? value
+          : value > Double.NEGATIVE_INFINITY ? Math.nextDown(value) : Double.NaN;
+    } else {
+      int index = Arrays.binarySearch(points, endpoint.getValue(), comparator);
+      return index >= 0 ? 2d * index - (endpoint.isClosed() ? 0 : 1) : 2d * -(index + 1) - 1;
+    }
+  }
+}
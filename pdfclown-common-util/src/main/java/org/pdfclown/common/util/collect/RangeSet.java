@@ -0,0 +1,145 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (RangeSet.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import org.pdfclown.common.util.annot.Immutable;
+
+/**
+ * Immutable index of intervals.
+ * <p>
+ * Set-like counterpart of {@link RangeMap}, mapping each interval to itself.
+ * </p>
+ *
+ * @param <T>
+ *          Value type of the intervals.
+ * @author Stefano Chizzolini
+ */
+@Immutable
+public final class RangeSet<T> {
+  /**
+   * New index, comparing endpoints by natural order.
+   *
+   * @param ranges
+   *          Intervals (empty ones are ignored).
+   */
+  public static <T> RangeSet<T> of(Collection<Range<T>> ranges) {
+    return new RangeSet<>(build(RangeMap.builder(), ranges));
+  }
+
+  /**
+   * New index, comparing endpoints by comparator.
+   *
+   * @param ranges
+   *          Intervals (empty ones are ignored).
+   */
+  public static <T> RangeSet<T> of(Collection<Range<T>> ranges, Comparator<? super T> comparator) {
+    return new RangeSet<>(build(RangeMap.builder(comparator), ranges));
+  }
+
+  private static <T> RangeMap<T, Range<T>> build(RangeMap.Builder<T, Range<T>> builder,
+      Collection<Range<T>> ranges) {
+    for (var range : ranges) {
+      builder.put(range, range);
+    }
+    return builder.build();
+  }
+
+  private final RangeMap<T, Range<T>> base;
+
+  private RangeSet(RangeMap<T, Range<T>> base) {
+    this.base = base;
+  }
+
+  /**
+   * Whether any interval contains the value.
+   */
+  public boolean contains(T value) {
+    return base.contains(value);
+  }
+
+  /**
+   * Whether any interval contains the number.
+   * <p>
+   * Primitive counterpart of {@link #contains(Object)}, free from boxing.
+   * </p>
+   *
+   * @throws IllegalStateException
+   *           if this index is not numeric.
+   */
+  public boolean containsDouble(double value) {
+    return base.containsDouble(value);
+  }
+
+  /**
+   * Gets the intervals containing the value.
+   *
+   * @return Intervals, sorted by lower endpoint.
+   */
+  public List<Range<T>> get(T value) {
+    return base.get(value);
+  }
+
+  /**
+   * Gets the intervals containing the number.
+   * <p>
+   * Primitive counterpart of {@link #get(Object)}, free from boxing.
+   * </p>
+   *
+   * @return Intervals, sorted by lower endpoint.
+   * @throws IllegalStateException
+   *           if this index is not numeric.
+   */
+  public List<Range<T>> getDouble(double value) {
+    return base.getDouble(value);
+  }
+
+  /**
+   * Gets the intervals overlapping the interval.
+   *
+   * @return Intervals, sorted by lower endpoint.
+   */
+  public List<Range<T>> getOverlapping(Range<T> range) {
+    return base.getOverlapping(range);
+  }
+
+  /**
+   * Whether this index is numeric (that is, its endpoints are compared mathematically).
+   */
+  public boolean isNumeric() {
+    return base.isNumeric();
+  }
+
+  /**
+   * Indexed intervals.
+   *
+   * @return Intervals, sorted by lower endpoint (empty ones excluded).
+   */
+  public List<Range<T>> ranges() {
+    return base.ranges();
+  }
+
+  /**
+   * Number of indexed intervals.
+   */
+  public int size() {
+    return base.size();
+  }
+
+  @Override
+  public String toString() {
+    return ranges().toString();
+  }
+}
@@ -24,25 +24,106 @@ import static org.pdfclown.common.util.Strings.S;
 import static org.pdfclown.common.util.function.Functions.toElse;
 
 import java.lang.StackWalker.StackFrame;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.jspecify.annotations.Nullable;
 import org.pdfclown.common.util.Objects;
 
 /**
  * Reflection utilities.
+ * <p>
+ * Members invoked by name ({@code call(..)}, {@code get(..)}, {@code create(..)} and their
+ * variants) are resolved once per signature, then invoked through cached method handles (see
+ * {@link #getStats() stats}).
+ * </p>
  *
  * @author Stefano Chizzolini
  */
 @SuppressWarnings("TypeParameterUnusedInFormals")
 public final class Reflects {
+  /**
+   * Member resolution statistics.
+   *
+   * @param hitCount
+   *          Number of invocations whose member was already resolved (either successfully or not).
+   * @param missCount
+   *          Number of invocations whose member had to be resolved.
+   * @author Stefano Chizzolini
+   */
+  public record Stats(long hitCount, long missCount) {
+  }
+
+  /**
+   * Resolved member.
+   *
+   * @param handle
+   *          Member handle, adapted to {@code (Object obj, Object[] args)Object} ({@code obj} is
+   *          ignored by static methods and constructors); {@code null}, if resolution failed.
+   * @param failureType
+   *          Resolution failure type ({@code null}, if resolution succeeded).
+   * @param failureMessage
+   *          Resolution failure message.
+   * @implNote The resolution failure is cached as type and message, rather than as exception
+   *           instance, so each failed invocation gets its own exception (sharing a mutable
+   *           exception, along with its stale stack trace, across callers and threads would be
+   *           unsafe).
+   */
+  private record Member(@Nullable MethodHandle handle,
+      @Nullable Class<? extends ReflectiveOperationException> failureType,
+      @Nullable String failureMessage) {
+    /**
+     * Creates a new exception reproducing the resolution failure.
+     */
+    ReflectiveOperationException newFailure() {
+      var failureType = requireNonNull(this.failureType);
+      try {
+        return failureType.getConstructor(String.class).newInstance(failureMessage);
+      } catch (ReflectiveOperationException ex) {
+        return new ReflectiveOperationException(failureType.getName() + ": " + failureMessage);
+      }
+    }
+  }
+
+  /**
+   * Member signature.
+   */
+  private record MemberKey(String name, List<Class<?>> paramTypes) {
+  }
+
+  private static final String CONSTRUCTOR_NAME = "<init>";
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
   private static final StackWalker STACK_WALKER =
       StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
+  /**
+   * Resolved members by declaring type.
+   * <p>
+   * Bound to their type via {@link ClassValue}, so they are discarded along with their class.
+   * </p>
+   */
+  private static final ClassValue<Map<MemberKey, Member>> members = new ClassValue<>() {
+    @Override
+    protected Map<MemberKey, Member> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final LongAdder hitCount = new LongAdder();
+  private static final LongAdder missCount = new LongAdder();
+
   /**
    * Calls a static method on the target class.
    *
@@ -139,12 +220,7 @@ public final class Reflects {
    */
   public static <T> T create(Class<T> type, Class<?> @Nullable [] paramTypes,
       @Nullable Object @Nullable [] args) {
-    try {
-      return type.getDeclaredConstructor(paramTypes).newInstance(args);
-    } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException
-        | InstantiationException ex) {
-      throw invocationException(type, "<init>", paramTypes, ex);
-    }
+    return Objects.nonNull(invoke(type, null, CONSTRUCTOR_NAME, paramTypes, args));
   }
 
   /**
@@ -257,14 +333,9 @@ public final class Reflects {
    * @see #tryGet(Class, String, Class[], Object[])
    * @see #call(Class, String, Class[], Object[])
    */
-  @SuppressWarnings("unchecked")
   public static <T> @Nullable T getOrNull(Class<?> type, String methodName,
       Class<?> @Nullable [] paramTypes, @Nullable Object @Nullable [] args) {
-    try {
-      return (T) MethodUtils.invokeExactStaticMethod(type, methodName, args, paramTypes);
-    } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException ex) {
-      throw invocationException(type, methodName, paramTypes, ex);
-    }
+    return invoke(type, null, methodName, paramTypes, args);
   }
 
   /**
@@ -293,14 +364,21 @@ public final class Reflects {
    * @see #tryGet(Object, String, Class[], Object[])
    * @see #call(Object, String, Class[], Object[])
    */
-  @SuppressWarnings("unchecked")
   public static <T> @Nullable T getOrNull(Object obj, String methodName,
       Class<?> @Nullable [] paramTypes, @Nullable Object @Nullable [] args) {
-    try {
-      return (T) MethodUtils.invokeExactMethod(obj, methodName, args, paramTypes);
-    } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException ex) {
-      throw invocationException(obj, methodName, paramTypes, ex);
-    }
+    return invoke(obj.getClass(), obj, methodName, paramTypes, args);
+  }
+
+  /**
+   * Gets the member resolution statistics.
+   * <p>
+   * Statistics are cumulative across all the types whose members were invoked by name.
+   * </p>
+   *
+   * @see #resetStats()
+   */
+  public static Stats getStats() {
+    return new Stats(hitCount.sum(), missCount.sum());
   }
 
   /**
@@ -327,6 +405,16 @@ public final class Reflects {
     }
   }
 
+  /**
+   * Resets the member resolution statistics.
+   *
+   * @see #getStats()
+   */
+  public static void resetStats() {
+    hitCount.reset();
+    missCount.reset();
+  }
+
   /**
    * Selects a frame walking down the call stack.
    * <p>
@@ -507,10 +595,97 @@ public final class Reflects {
   }
 
   private static RuntimeException invocationException(Object obj, String methodName,
-      Class<?> @Nullable [] paramTypes, Exception ex) {
+      Class<?> @Nullable [] paramTypes, Throwable ex) {
     return runtime("Invocation to `{}.{}({})` FAILED", fqnd(obj), methodName, toElse(paramTypes,
         $ -> Arrays.stream($).map(Objects::literal).collect(joining(S + COMMA + SPACE)), EMPTY),
-        ex instanceof InvocationTargetException ? ex.getCause() : ex);
+        ex);
+  }
+
+  /**
+   * Invokes a member by name.
+   *
+   * @param type
+   *          Member type.
+   * @param obj
+   *          Target object ({@code null}, for static methods and constructors).
+   * @param memberName
+   *          Member name ({@value #CONSTRUCTOR_NAME}, for constructors).
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> @Nullable T invoke(Class<?> type, @Nullable Object obj, String memberName,
+      Class<?> @Nullable [] paramTypes, @Nullable Object @Nullable [] args) {
+    Member member = member(type, memberName, paramTypes);
+    if (member.handle() == null)
+      throw invocationException(obj != null ? obj : type, memberName, paramTypes,
+          member.newFailure());
+
+    try {
+      return (T) (Object) member.handle().invokeExact(obj, args);
+    } catch (Throwable ex) {
+      throw invocationException(obj != null ? obj : type, memberName, paramTypes, ex);
+    }
+  }
+
+  /**
+   * Gets the member corresponding to a signature, resolving it on first request.
+   * <p>
+   * Failed resolutions are cached too, so repeated attempts to invoke missing members stay cheap.
+   * </p>
+   */
+  private static Member member(Class<?> type, String memberName,
+      Class<?> @Nullable [] paramTypes) {
+    Map<MemberKey, Member> typeMembers = members.get(type);
+    if (paramTypes == null) {
+      paramTypes = ArrayUtils.EMPTY_CLASS_ARRAY;
+    }
+
+    Member ret = typeMembers.get(new MemberKey(memberName, Arrays.asList(paramTypes)));
+    if (ret != null) {
+      hitCount.increment();
+      return ret;
+    }
+
+    missCount.increment();
+    ret = resolve(type, memberName, paramTypes);
+    /*
+     * NOTE: Parameter types are copied, as the caller may reuse its array.
+     */
+    Member oldRet = typeMembers.putIfAbsent(
+        new MemberKey(memberName, Arrays.asList(paramTypes.clone())), ret);
+    return oldRet != null ? oldRet : ret;
+  }
+
+  /**
+   * Resolves the member corresponding to a signature.
+   * <p>
+   * Methods are resolved like {@link MethodUtils#getAccessibleMethod(Class, String, Class[])}
+   * (exact signature, accessible declaration); constructors, like
+   * {@link Class#getDeclaredConstructor(Class[])}.
+   * </p>
+   */
+  private static Member resolve(Class<?> type, String memberName, Class<?>[] paramTypes) {
+    MethodHandle handle;
+    try {
+      if (memberName.equals(CONSTRUCTOR_NAME)) {
+        handle = MethodHandles.dropArguments(
+            LOOKUP.unreflectConstructor(type.getDeclaredConstructor(paramTypes)).asFixedArity(),
+            0, Object.class);
+      } else {
+        Method method = MethodUtils.getAccessibleMethod(type, memberName, paramTypes);
+        if (method == null)
+          throw new NoSuchMethodException("No such accessible method: " + memberName
+              + "() on object: " + type.getName());
+
+        handle = LOOKUP.unreflect(method).asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+          handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+      }
+    } catch (ReflectiveOperationException ex) {
+      return new Member(null, ex.getClass(), ex.getMessage());
+    }
+    return new Member(handle.asType(handle.type().generic())
+        .asSpreader(Object[].class, paramTypes.length), null, null);
   }
 
   private Reflects() {
@@ -0,0 +1,423 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (TypeIndex.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.reflect;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.pdfclown.common.util.Exceptions.runtime;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ModuleRef;
+import io.github.classgraph.ScanResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.pdfclown.common.util.annot.Immutable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the type hierarchy available on the classpath accessible from a class
+ * loader.
+ * <p>
+ * Full classpath scans (see {@link org.pdfclown.common.util.Objects#types(ClassLoader)}) take
+ * seconds, as they include system libraries; this index stores the scanned type relationships to
+ * a file, split by classpath element (jar, directory or module) along with its fingerprint (path,
+ * size and modification time; runtime version, for system modules). On subsequent loads, only the
+ * elements whose fingerprint changed are rescanned, then the file is updated.
+ * </p>
+ *
+ * @author Stefano Chizzolini
+ */
+@Immutable
+public final class TypeIndex {
+  /**
+   * Classpath element (jar, directory or module).
+   */
+  private record Element(String location, String fingerprint, List<TypeEntry> types) {
+  }
+
+  /**
+   * Type and its direct ancestors.
+   */
+  private record TypeEntry(String name, boolean isInterface, @Nullable String superclassName,
+      List<String> interfaceNames) {
+  }
+
+  private static final Logger log = LoggerFactory.getLogger(TypeIndex.class);
+
+  private static final String FILE_HEADER = "#pdfclown-type-index:1";
+  private static final String FINGERPRINT__MISSING = "-";
+  private static final String LOCATION_PREFIX__MODULE = "module:";
+  private static final char RECORD__ELEMENT = 'E';
+  private static final char RECORD__TYPE = 'T';
+  private static final String SEPARATOR__FIELD = "\t";
+  private static final String SEPARATOR__LIST = ",";
+
+  /**
+   * Loads the index of the types available on the classpath accessible from the class loader.
+   * <p>
+   * The classpath is searched like {@link org.pdfclown.common.util.Objects#types(ClassLoader)}
+   * (that is, system libraries included). If {@code file} is missing, unreadable or stale, the
+   * changed classpath elements are rescanned and {@code file} is (re)written; failing to write it
+   * is not fatal (the index is just not persisted).
+   * </p>
+   *
+   * @param loader
+   *          Class loader whose classpath is indexed (also used to load indexed types).
+   * @param file
+   *          Index file.
+   */
+  public static TypeIndex of(ClassLoader loader, Path file) {
+    requireNonNull(loader, "`loader`");
+    requireNonNull(file, "`file`");
+
+    var classGraph = newClassGraph(loader);
+
+    // Collect the current classpath elements!
+    var fingerprints = new LinkedHashMap<String, String>();
+    var moduleLocations = new HashSet<String>();
+    for (URI uri : classGraph.getClasspathURIs()) {
+      fingerprints.put(uri.toString(), fingerprint(uri));
+    }
+    for (ModuleRef module : classGraph.getModules()) {
+      String location = LOCATION_PREFIX__MODULE + module.getName();
+      URI uri = module.getLocation();
+      fingerprints.put(location, uri != null && "file".equals(uri.getScheme())
+          ? fingerprint(uri)
+          : Runtime.version() + SEPARATOR__LIST + System.getProperty("java.home"));
+      moduleLocations.add(location);
+    }
+
+    // Reuse the unchanged elements!
+    var storedElements = read(file);
+    var elements = new LinkedHashMap<String, Element>();
+    var staleLocations = new ArrayList<String>();
+    for (var entry : fingerprints.entrySet()) {
+      var element = storedElements.get(entry.getKey());
+      if (element != null && element.fingerprint.equals(entry.getValue())) {
+        elements.put(entry.getKey(), element);
+      } else {
+        staleLocations.add(entry.getKey());
+      }
+    }
+    boolean changed = !staleLocations.isEmpty() || storedElements.size() != elements.size();
+
+    // Rescan the changed elements!
+    if (!staleLocations.isEmpty()) {
+      if (log.isDebugEnabled()) {
+        log.debug("Type index {}: rescanning {} of {} classpath elements", file,
+            staleLocations.size(), fingerprints.size());
+      }
+
+      if (staleLocations.stream().anyMatch(moduleLocations::contains)
+          || staleLocations.size() == fingerprints.size()) {
+        /*
+         * NOTE: Modules cannot be scanned in isolation from the classpath, so the whole classpath
+         * is rescanned (it happens on first run or after runtime upgrade only).
+         */
+        var typesByLocation = new HashMap<String, List<TypeEntry>>();
+        try (var scanResult = classGraph.scan()) {
+          for (var classInfo : scanResult.getAllClasses()) {
+            typesByLocation.computeIfAbsent(locationOf(classInfo), $ -> new ArrayList<>())
+                .add(entryOf(classInfo));
+          }
+        }
+        elements.clear();
+        for (var entry : fingerprints.entrySet()) {
+          elements.put(entry.getKey(), new Element(entry.getKey(), entry.getValue(),
+              typesByLocation.getOrDefault(entry.getKey(), List.of())));
+        }
+      } else {
+        for (var location : staleLocations) {
+          var types = new ArrayList<TypeEntry>();
+          try (var scanResult = new ClassGraph()
+              .enableClassInfo()
+              .enableExternalClasses()
+              .overrideClasspath(List.of(URI.create(location)))
+              .scan()) {
+            for (var classInfo : scanResult.getAllClasses()) {
+              if (!classInfo.isExternalClass()) {
+                types.add(entryOf(classInfo));
+              }
+            }
+          }
+          elements.put(location, new Element(location, fingerprints.get(location), types));
+        }
+        // Restore classpath order!
+        var orderedElements = new LinkedHashMap<String, Element>();
+        for (var location : fingerprints.keySet()) {
+          orderedElements.put(location, elements.get(location));
+        }
+        elements = orderedElements;
+      }
+    }
+
+    if (changed) {
+      write(file, elements.values());
+    }
+    return new TypeIndex(loader, elements.values());
+  }
+
+  /**
+   * Gets the location key of the classpath element containing the class.
+   */
+  private static String locationOf(ClassInfo classInfo) {
+    ModuleRef module = classInfo.getModuleRef();
+    return module != null ? LOCATION_PREFIX__MODULE + module.getName()
+        : String.valueOf(classInfo.getClasspathElementURI());
+  }
+
+  private static TypeEntry entryOf(ClassInfo classInfo) {
+    ClassInfo superclass = classInfo.getSuperclass();
+    return new TypeEntry(classInfo.getName(), classInfo.isInterface(),
+        superclass != null ? superclass.getName() : null,
+        List.copyOf(classInfo.getInterfaces().directOnly().getNames()));
+  }
+
+  /**
+   * Gets the fingerprint of a classpath element file or directory.
+   */
+  private static String fingerprint(URI uri) {
+    try {
+      Path path = Path.of(uri);
+      if (Files.isDirectory(path)) {
+        // Aggregate the directory contents, as its own timestamp ignores nested changes.
+        long[] stats = new long[3];
+        try (var files = Files.walk(path)) {
+          files.filter(Files::isRegularFile).forEach($ -> {
+            try {
+              stats[0]++;
+              stats[1] += Files.size($);
+              stats[2] = Math.max(stats[2], Files.getLastModifiedTime($).toMillis());
+            } catch (IOException ex) {
+              throw runtime(ex);
+            }
+          });
+        }
+        return "d" + stats[0] + SEPARATOR__LIST + stats[1] + SEPARATOR__LIST + stats[2];
+      } else if (Files.isRegularFile(path))
+        return "f" + Files.size(path) + SEPARATOR__LIST
+            + Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException | RuntimeException ex) {
+      // NOP: Unfingerprintable elements are always rescanned.
+    }
+    return FINGERPRINT__MISSING;
+  }
+
+  private static ClassGraph newClassGraph(ClassLoader loader) {
+    return new ClassGraph()
+        .enableClassInfo()
+        .enableSystemJarsAndModules()
+        .addClassLoader(loader);
+  }
+
+  /**
+   * Reads the index file.
+   *
+   * @return Empty, if {@code file} is missing or unreadable.
+   */
+  private static Map<String, Element> read(Path file) {
+    var ret = new HashMap<String, Element>();
+    if (!Files.isRegularFile(file))
+      return ret;
+
+    try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+      if (!FILE_HEADER.equals(reader.readLine()))
+        return ret;
+
+      @Nullable
+      List<TypeEntry> types = null;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty())
+          continue;
+
+        String[] fields = line.substring(1).split(SEPARATOR__FIELD, -1);
+        switch (line.charAt(0)) {
+          case RECORD__ELEMENT -> {
+            types = new ArrayList<>();
+            ret.put(fields[0], new Element(fields[0], fields[1], types));
+          }
+          case RECORD__TYPE -> requireNonNull(types).add(new TypeEntry(fields[0],
+              Boolean.parseBoolean(fields[1]), !fields[2].isEmpty() ? fields[2] : null,
+              fields[3].isEmpty() ? List.of() : List.of(fields[3].split(SEPARATOR__LIST))));
+          default -> throw new IOException("Unknown record: " + line);
+        }
+      }
+      return ret;
+    } catch (IOException | RuntimeException ex) {
+      log.warn("Type index {} DISCARDED (unreadable): {}", file, ex.toString());
+      return new HashMap<>();
+    }
+  }
+
+  /**
+   * Writes the index file (atomically, where supported).
+   */
+  private static void write(Path file, Collection<Element> elements) {
+    try {
+      Path dir = file.toAbsolutePath().getParent();
+      Files.createDirectories(dir);
+      Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+      try {
+        try (BufferedWriter writer = Files.newBufferedWriter(tmpFile, UTF_8)) {
+          writer.write(FILE_HEADER);
+          writer.newLine();
+          for (var element : elements) {
+            writer.write(RECORD__ELEMENT + element.location + SEPARATOR__FIELD
+                + element.fingerprint);
+            writer.newLine();
+            for (var type : element.types) {
+              writer.write(RECORD__TYPE + type.name + SEPARATOR__FIELD + type.isInterface
+                  + SEPARATOR__FIELD + (type.superclassName != null ? type.superclassName : "")
+                  + SEPARATOR__FIELD + String.join(SEPARATOR__LIST, type.interfaceNames));
+              writer.newLine();
+            }
+          }
+        }
+        try {
+          Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+          Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmpFile);
+      }
+    } catch (IOException ex) {
+      log.warn("Type index {} NOT SAVED: {}", file, ex.toString());
+    }
+  }
+
+  /**
+   * Direct descendants by type name.
+   */
+  private final Map<String, List<String>> children = new HashMap<>();
+  private final ClassLoader loader;
+  private final Map<String, TypeEntry> types = new HashMap<>();
+
+  private TypeIndex(ClassLoader loader, Collection<Element> elements) {
+    this.loader = loader;
+
+    for (var element : elements) {
+      for (var type : element.types) {
+        // NOTE: Like class loading, the first occurrence on the classpath wins.
+        if (types.putIfAbsent(type.name, type) != null) {
+          continue;
+        }
+
+        if (type.superclassName != null) {
+          children.computeIfAbsent(type.superclassName, $ -> new ArrayList<>()).add(type.name);
+        }
+        for (var interfaceName : type.interfaceNames) {
+          children.computeIfAbsent(interfaceName, $ -> new ArrayList<>()).add(type.name);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets whether the type is indexed.
+   */
+  public boolean contains(String typeName) {
+    return types.containsKey(typeName);
+  }
+
+  /**
+   * Class loader whose classpath is indexed.
+   */
+  public ClassLoader getLoader() {
+    return loader;
+  }
+
+  /**
+   * Number of indexed types.
+   */
+  public int size() {
+    return types.size();
+  }
+
+  /**
+   * Gets the names of the type descendants (both classes and interfaces, at any depth).
+   *
+   * @param typeName
+   *          Fully-qualified name of the type (either class or interface) whose descendants are
+   *          searched.
+   */
+  public Stream<String> subTypeNames(String typeName) {
+    var ret = new ArrayList<String>();
+    var visited = new HashSet<String>();
+    var queue = new ArrayDeque<String>();
+    queue.add(typeName);
+    String name;
+    while ((name = queue.poll()) != null) {
+      for (var child : children.getOrDefault(name, List.of())) {
+        if (visited.add(child)) {
+          ret.add(child);
+          queue.add(child);
+        }
+      }
+    }
+    return ret.stream();
+  }
+
+  /**
+   * Gets the type descendants.
+   * <p>
+   * Same as {@link #subTypeNames(String)}, so the descendants of an interface comprise its
+   * sub-interfaces too, consistently with
+   * {@link org.pdfclown.common.util.Objects#subTypes(Class, ScanResult)}.
+   * </p>
+   *
+   * @param type
+   *          Type (either class or interface) whose descendants are searched.
+   * @throws RuntimeException
+   *           if a descendant failed to load.
+   * @see org.pdfclown.common.util.Objects#subTypes(Class, ScanResult)
+   */
+  public <T> Stream<Class<? extends T>> subTypes(Class<T> type) {
+    return subTypeNames(type.getName())
+        .map($ -> {
+          try {
+            return Class.forName($, false, loader).asSubclass(type);
+          } catch (ClassNotFoundException ex) {
+            throw runtime(ex);
+          }
+        });
+  }
+
+  /**
+   * Names of the indexed types.
+   */
+  public Set<String> typeNames() {
+    return Set.copyOf(types.keySet());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (FlagSetTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class FlagSetTest extends BaseTest {
+  enum LargeFlag implements Flag {
+    F00, F01, F02, F03, F04, F05, F06, F07, F08, F09,
+    F10, F11, F12, F13, F14, F15, F16, F17, F18, F19,
+    F20, F21, F22, F23, F24, F25, F26, F27, F28, F29,
+    F30, F31, F32, F33, F34, F35, F36, F37, F38, F39,
+    F40, F41, F42, F43, F44, F45, F46, F47, F48, F49,
+    F50, F51, F52, F53, F54, F55, F56, F57, F58, F59,
+    F60, F61, F62, F63, F64, F65, F66, F67, F68, F69;
+
+    @Override
+    public Integer getCode() {
+      return 0;
+    }
+  }
+
+  enum SmallFlag implements Flag {
+    ONE,
+    TWO,
+    THREE,
+    FOUR;
+
+    @Override
+    public Integer getCode() {
+      return 1 << ordinal();
+    }
+  }
+
+  @Test
+  void atomicFlagSet() {
+    var flags = new AtomicFlagSet<>(SmallFlag.class);
+
+    CompletableFuture.allOf(IntStream.range(0, SmallFlag.values().length)
+        .mapToObj($ -> CompletableFuture.runAsync(() -> {
+          var flag = SmallFlag.values()[$];
+          for (int i = 0; i <= 10_000; i++) {
+            flags.set(flag, i % 2 == 0);
+          }
+        }))
+        .toArray(CompletableFuture[]::new)).join();
+
+    assertThat(flags.getMask(), is(0b1111L));
+
+    assertThat(flags.getAndRemoveMask(0b0101), is(0b1111L));
+    assertThat(flags, contains(SmallFlag.TWO, SmallFlag.FOUR));
+    assertThat(flags.compareAndSetMask(0b1010, 0b0001), is(true));
+    assertThat(flags, contains(SmallFlag.ONE));
+  }
+
+  @Test
+  void bitFlagSet() {
+    var flags = FlagSet.noneOf(LargeFlag.class);
+    var expected = EnumSet.noneOf(LargeFlag.class);
+    for (var flag : LargeFlag.values()) {
+      if (flag.ordinal() % 3 == 0) {
+        flags.add(flag);
+        expected.add(flag);
+      }
+    }
+
+    assertThat(flags, instanceOf(BitFlagSet.class));
+    assertThat(flags.size(), is(expected.size()));
+    assertThat(flags, is(expected));
+    assertThat(flags.contains(LargeFlag.F66), is(true));
+    assertThat(flags.contains(LargeFlag.F67), is(false));
+
+    flags.set(LargeFlag.F66, false);
+
+    assertThat(flags.contains(LargeFlag.F66), is(false));
+  }
+
+  @Test
+  void longFlagSet() {
+    var flags = FlagSet.noneOf(SmallFlag.class);
+
+    assertThat(flags, instanceOf(LongFlagSet.class));
+
+    flags.set(SmallFlag.TWO, true);
+    flags.add(SmallFlag.FOUR);
+
+    assertThat(flags, contains(SmallFlag.TWO, SmallFlag.FOUR));
+    assertThat(flags.contains(SmallFlag.ONE), is(false));
+    assertThat(flags.getCode(), is(0b1010));
+
+    var other = new LongFlagSet<>(SmallFlag.class, 0b0011);
+    flags.retainAll(other);
+
+    assertThat(flags, contains(SmallFlag.TWO));
+    assertThat(((LongFlagSet<SmallFlag>) flags).getMask(), is(0b0010L));
+    assertThat(flags, is(EnumSet.of(SmallFlag.TWO)));
+  }
+
+  @Test
+  void longFlagSet_tooLarge() {
+    assertThrows(ArgumentException.class, () -> new LongFlagSet<>(LargeFlag.class));
+    assertThrows(ArgumentException.class, () -> new LongFlagSet<>(SmallFlag.class, 0b10000));
+  }
+}
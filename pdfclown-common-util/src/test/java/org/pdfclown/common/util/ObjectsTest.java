@@ -18,6 +18,10 @@ import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.pdfclown.common.build.test.assertion.Verifiers.COMBINATION;
 import static org.pdfclown.common.build.test.assertion.Verifiers.TUPLE;
 import static org.pdfclown.common.build.util.Tuple.tuple;
@@ -25,9 +29,15 @@ import static org.pdfclown.common.util.Strings.EMPTY;
 import static org.pdfclown.common.util.collect.Collectives.map;
 import static org.pdfclown.common.util.collect.Comparators.hierarchicalType;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,10 +46,15 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.tools.ToolProvider;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.pdfclown.common.util.__test.BaseTest;
 import org.pdfclown.common.util.collect.Comparators.HierarchicalTypeComparator;
 import org.pdfclown.common.util.collect.XtList;
@@ -69,6 +84,77 @@ class ObjectsTest extends BaseTest {
     }
   }
 
+  /**
+   * Class loader which defines its own copy of the isolated types, instead of delegating to its
+   * parent (simulating split types, like those of a plugin).
+   */
+  static class IsolatingClassLoader extends ClassLoader {
+    private final Set<String> isolatedTypeNames;
+
+    IsolatingClassLoader(Class<?>... isolatedTypes) {
+      super(ObjectsTest.class.getClassLoader());
+
+      isolatedTypeNames = Stream.of(isolatedTypes).map(Class::getName).collect(Collectors.toSet());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!isolatedTypeNames.contains(name))
+        return super.loadClass(name, resolve);
+
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> ret = findLoadedClass(name);
+        if (ret == null) {
+          try (var in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (in == null)
+              throw new ClassNotFoundException(name);
+
+            byte[] bytes = in.readAllBytes();
+            ret = defineClass(name, bytes, 0, bytes.length);
+          } catch (IOException ex) {
+            throw new ClassNotFoundException(name, ex);
+          }
+        }
+        return ret;
+      }
+    }
+  }
+
+  /**
+   * Cross-cast subject.
+   */
+  public static class XSample {
+    private final int value;
+
+    public XSample() {
+      this(0);
+    }
+
+    public XSample(int value) {
+      this.value = value;
+    }
+
+    public String describe(String prefix) {
+      return prefix + value;
+    }
+
+    public void fail(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    public int getValue() {
+      return value;
+    }
+
+    public XSample plus(XSample other) {
+      return new XSample(value + other.getValue());
+    }
+
+    public long scale(long factor) {
+      return value * factor;
+    }
+  }
+
   /**
    * Simulating {@code java.util.Collections.UnmodifiableCollection}.
    */
@@ -485,6 +571,64 @@ class ObjectsTest extends BaseTest {
     }
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  void subTypes_index(@TempDir Path dir) {
+    Path indexFile = dir.resolve("types.idx");
+    for (int i = 0; i < 2; i++) {
+      var types = Objects.types(Objects.class.getClassLoader(), indexFile);
+      List<Class<? extends List>> subTypes = Objects.subTypes(List.class, types).collect(toList());
+
+      assertThat("SHOULD be persisted", Files.isRegularFile(indexFile), is(true));
+      assertThat("SHOULD contain concrete classes", subTypes, hasItem(ArrayList.class));
+      assertThat("SHOULD contain abstract classes", subTypes, hasItem(AbstractList.class));
+      assertThat("SHOULD contain interfaces", subTypes, hasItem(XtList.class));
+    }
+  }
+
+  @Test
+  void subTypes_indexRefresh(@TempDir Path dir) throws IOException {
+    Path indexFile = dir.resolve("types.idx");
+    Path sourceDir = Files.createDirectories(dir.resolve("src/typeindex"));
+    Path classesDir = Files.createDirectories(dir.resolve("classes"));
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    try (var loader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() },
+        Objects.class.getClassLoader())) {
+      Path alphaFile = Files.writeString(sourceDir.resolve("Alpha.java"),
+          "package typeindex; public class Alpha implements java.util.RandomAccess {}");
+      assertThat(compiler.run(null, null, null, "-d", classesDir.toString(),
+          alphaFile.toString()), is(0));
+
+      var types = Objects.types(loader, indexFile);
+
+      assertThat(types.contains("typeindex.Alpha"), is(true));
+      assertThat(types.contains("typeindex.Beta"), is(false));
+
+      /*
+       * NOTE: A fake type is slipped into a stored element unchanged across loads (`java.base`
+       * module): if the element were rescanned, the fake type would be dropped.
+       */
+      var lines = new ArrayList<>(Files.readAllLines(indexFile));
+      lines.add(lines.indexOf(lines.stream()
+          .filter($ -> $.startsWith("Emodule:java.base\t"))
+          .findFirst().orElseThrow()) + 1, "Ttypeindex.Fake\tfalse\tjava.lang.Object\t");
+      Files.write(indexFile, lines);
+
+      Path betaFile = Files.writeString(sourceDir.resolve("Beta.java"),
+          "package typeindex; public class Beta extends Alpha {}");
+      assertThat(compiler.run(null, null, null, "-d", classesDir.toString(), "-cp",
+          classesDir.toString(), betaFile.toString()), is(0));
+
+      types = Objects.types(loader, indexFile);
+
+      assertThat("Changed element SHOULD be rescanned", types.contains("typeindex.Beta"),
+          is(true));
+      assertThat(types.subTypeNames("typeindex.Alpha").toList(), is(List.of("typeindex.Beta")));
+      assertThat("Unchanged elements SHOULD NOT be rescanned", types.contains("typeindex.Fake"),
+          is(true));
+    }
+  }
+
   @Test
   void superTypes() {
     var actual = Objects.superTypes(UnmodifiableList.class, hierarchicalType()
@@ -506,6 +650,37 @@ class ObjectsTest extends BaseTest {
         Object.class));
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  void superTypes_memoized() {
+    var compareCount = new AtomicInteger();
+    var comparator = hierarchicalType()
+        .thenComparing(HierarchicalTypeComparator.Priorities.interfacePriority())
+        .thenComparing(($1, $2) -> {
+          compareCount.incrementAndGet();
+          return $1.getName().compareTo($2.getName());
+        });
+    var expected = Objects.superTypes(UnmodifiableList.class, comparator).toList();
+    int sortCompareCount = compareCount.get();
+
+    assertThat(sortCompareCount > 0, is(true));
+
+    // Already-sorted ancestors SHOULD be reused, even along with unrelated stoppers.
+    assertThat(Objects.superTypes(UnmodifiableList.class, comparator).toList(), is(expected));
+    assertThat(Objects.superTypes(UnmodifiableList.class, comparator,
+        Set.<Class>of(String.class, Map.class), false).toList(), is(expected));
+    assertThat(compareCount.get(), is(sortCompareCount));
+
+    // Related stoppers SHOULD require their own sorting.
+    var stopped = Objects.superTypes(UnmodifiableList.class, comparator,
+        Set.<Class>of(Object.class), true).toList();
+
+    assertThat(stopped, containsInRelativeOrder(List.class, Collection.class, Iterable.class));
+    assertThat(stopped, hasItem(Serializable.class));
+    assertThat(stopped, not(hasItem(Object.class)));
+    assertThat(compareCount.get() > sortCompareCount, is(true));
+  }
+
   @Test
   void toQualifiedString() {
     COMBINATION.verify(
@@ -600,4 +775,84 @@ class ObjectsTest extends BaseTest {
             tuple(Xmls.XPath.class,
                 new Object[] { true, "Yellow", DocumentFactoryProfile.COMPACT })));
   }
+
+  @Test
+  void xcast() throws ReflectiveOperationException {
+    var foreignLoader = new IsolatingClassLoader(XSample.class);
+    var foreignType = foreignLoader.loadClass(XSample.class.getName());
+    assertThat(foreignType == XSample.class, is(false));
+
+    Object foreignObj = foreignType.getConstructor(int.class).newInstance(2);
+    XSample obj = Objects.xcast(foreignObj, ObjectsTest.class);
+
+    // Same source object, same proxy.
+    assertThat(Objects.xcast(foreignObj, ObjectsTest.class) == obj, is(true));
+    assertThat(Objects.xflat(obj) == foreignObj, is(true));
+
+    // Primitive argument and return values.
+    assertThat(obj.getValue(), is(2));
+    assertThat(obj.scale(21L), is(42L));
+
+    // Shared argument and return types.
+    assertThat(obj.describe("value: "), is("value: 2"));
+
+    // Split argument and return types.
+    XSample sum = obj.plus(new XSample(3));
+    assertThat(sum.getValue(), is(5));
+    assertThat(Objects.<Object>xflat(sum).getClass() == foreignType, is(true));
+
+    // Exceptions.
+    var ex = assertThrows(IllegalStateException.class, () -> obj.fail("FAILED"));
+    assertThat(ex.getMessage(), is("FAILED"));
+  }
+
+  @Test
+  void xcast_concurrent() throws ReflectiveOperationException {
+    var foreignCtor = new IsolatingClassLoader(XSample.class).loadClass(XSample.class.getName())
+        .getConstructor(int.class);
+    Object sharedObj = foreignCtor.newInstance(0);
+    var foreignObjs = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      foreignObjs.add(foreignCtor.newInstance(i));
+    }
+
+    List<XSample[]> results = IntStream.range(0, foreignObjs.size())
+        .mapToObj($ -> CompletableFuture.supplyAsync(() -> new XSample[] {
+            Objects.xcast(sharedObj, ObjectsTest.class),
+            Objects.xcast(foreignObjs.get($), ObjectsTest.class) }))
+        .toList().stream()
+        .map(CompletableFuture::join)
+        .toList();
+
+    XSample sharedProxy = results.get(0)[0];
+    for (int i = 0; i < results.size(); i++) {
+      // Same source object, same proxy.
+      assertThat(results.get(i)[0] == sharedProxy, is(true));
+      // Same target type, same proxy type.
+      assertThat(results.get(i)[1].getClass() == sharedProxy.getClass(), is(true));
+      assertThat(results.get(i)[1].getValue(), is(i));
+    }
+  }
+
+  @Test
+  void xcast_reclaimed() throws Exception {
+    var foreignCtor = new IsolatingClassLoader(XSample.class).loadClass(XSample.class.getName())
+        .getConstructor(int.class);
+    XSample obj = Objects.xcast(foreignCtor.newInstance(1), ObjectsTest.class);
+    Class<?> proxyType = obj.getClass();
+
+    // Cached proxies SHOULD NOT retain their source objects.
+    var foreignObjRef = new WeakReference<>(Objects.<Object>xflat(obj));
+    obj = null;
+    for (int i = 0; i < 50 && foreignObjRef.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertThat(foreignObjRef.get(), is(nullValue()));
+
+    // Proxy types SHOULD outlive their instances.
+    obj = Objects.xcast(foreignCtor.newInstance(2), ObjectsTest.class);
+    assertThat(obj.getClass() == proxyType, is(true));
+    assertThat(obj.getValue(), is(2));
+  }
 }
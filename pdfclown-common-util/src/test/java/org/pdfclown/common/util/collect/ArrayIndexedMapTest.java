@@ -0,0 +1,181 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ArrayIndexedMapTest.java) is part of pdfclown-common-util module in pdfClown
+  Common project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class ArrayIndexedMapTest extends BaseTest {
+  private static ArrayIndexedMap<String, Integer> newMap(int count) {
+    var ret = new ArrayIndexedMap<String, Integer>(2);
+    for (int i = 0; i < count; i++) {
+      ret.put("k" + i, i);
+    }
+    return ret;
+  }
+
+  @Test
+  void indexOfKey() {
+    var map = newMap(100);
+
+    assertThat(map.size(), is(100));
+    for (int i = 0; i < 100; i++) {
+      assertThat(map.indexOfKey("k" + i), is(i));
+      assertThat(map.keyOfIndex(i), is("k" + i));
+      assertThat(map.getValue(i), is(i));
+    }
+    assertThat(map.indexOfKey("missing"), is(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> map.keyOfIndex(100));
+  }
+
+  @Test
+  void indexOfValue() {
+    var map = newMap(3);
+    map.put("k3", 1);
+
+    assertThat(map.indexOfValue(1), is(1));
+    assertThat(map.getKey(1), is("k1"));
+    assertThat(map.getKey(7), is(nullValue()));
+
+    map.remove("k1");
+
+    assertThat(map.indexOfValue(1), is(2));
+    assertThat(map.getKey(1), is("k3"));
+    assertThat(map.containsValue(0), is(true));
+    assertThat(map.containsValue(5), is(false));
+  }
+
+  @Test
+  void indexOfValue_update() {
+    var map = newMap(3);
+
+    assertThat(map.indexOfValue(2), is(2));
+
+    // Appended values SHOULD keep their least position.
+    map.put("k3", 1);
+    map.put("k4", 5);
+
+    assertThat(map.indexOfValue(1), is(1));
+    assertThat(map.indexOfValue(5), is(4));
+
+    // Replaced values SHOULD fall back to their next occurrence.
+    map.put("k1", 7);
+
+    assertThat(map.indexOfValue(1), is(3));
+    assertThat(map.indexOfValue(7), is(1));
+
+    map.put("k4", 0);
+
+    assertThat(map.indexOfValue(0), is(0));
+    assertThat(map.containsValue(5), is(false));
+
+    map.put("k0", 1);
+
+    assertThat(map.indexOfValue(1), is(0));
+    assertThat(map.indexOfValue(0), is(4));
+    assertThat(map.getKey(1), is("k0"));
+  }
+
+  @Test
+  void iterator_remove() {
+    var map = newMap(5);
+    var itr = map.entrySet().iterator();
+    while (itr.hasNext()) {
+      if (itr.next().getValue() % 2 == 0) {
+        itr.remove();
+      }
+    }
+
+    assertThat(map.keySet(), contains("k1", "k3"));
+    assertThat(map.indexOfKey("k3"), is(1));
+
+    assertThrows(ConcurrentModificationException.class, () -> {
+      for (var key : map.keySet()) {
+        map.put(key + "x", 0);
+      }
+    });
+  }
+
+  @Test
+  void move() {
+    var map = newMap(5);
+
+    var entry = map.move(1, 4);
+
+    assertThat(entry.getKey(), is("k1"));
+    assertThat(map.keySet(), contains("k0", "k2", "k3", "k1", "k4"));
+    assertThat(map.indexOfKey("k1"), is(3));
+    assertThat(map.indexOfKey("k3"), is(2));
+
+    map.move(4, 0);
+
+    assertThat(map.keySet(), contains("k4", "k0", "k2", "k3", "k1"));
+    assertThat(map.indexOfKey("k4"), is(0));
+    assertThat(map.indexOfKey("k1"), is(4));
+  }
+
+  @Test
+  void put_index() {
+    var map = newMap(3);
+
+    assertThat(map.put("x", 10, 1), is(nullValue()));
+    assertThat(map.keySet(), contains("k0", "x", "k1", "k2"));
+    assertThat(map.indexOfKey("k2"), is(3));
+
+    assertThat(map.put("k0", 20, 4), is(0));
+    assertThat(map.keySet(), contains("x", "k1", "k2", "k0"));
+    assertThat(map.get("k0"), is(20));
+    assertThat(map.indexOfKey("x"), is(0));
+  }
+
+  @Test
+  void put_null() {
+    var map = newMap(3);
+
+    map.put("k1", null);
+
+    assertThat(map.keySet(), contains("k0", "k2"));
+    assertThat(map.containsKey("k1"), is(false));
+  }
+
+  @Test
+  void remove() {
+    var map = newMap(50);
+    for (int i = 0; i < 50; i += 3) {
+      map.remove("k" + i);
+    }
+    var expected = new LinkedHashMap<String, Integer>();
+    for (int i = 0; i < 50; i++) {
+      if (i % 3 != 0) {
+        expected.put("k" + i, i);
+      }
+    }
+
+    assertThat(map, is(expected));
+    int index = 0;
+    for (var key : expected.keySet()) {
+      assertThat(map.indexOfKey(key), is(index++));
+    }
+  }
+}
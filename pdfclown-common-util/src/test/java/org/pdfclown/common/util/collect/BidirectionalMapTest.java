@@ -0,0 +1,92 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (BidirectionalMapTest.java) is part of pdfclown-common-util module in pdfClown
+  Common project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class BidirectionalMapTest extends BaseTest {
+  @Test
+  void getKey() {
+    var map = new BidirectionalMap<String, Integer>();
+    map.and("a", 1).and("b", 2).and("c", 1);
+
+    assertThat(map.getKey(1), is("a"));
+    assertThat(map.getKey(2), is("b"));
+
+    map.but("a");
+
+    assertThat(map.getKey(1), is("c"));
+
+    map.put("c", 3);
+
+    assertThat(map.getKey(1), is(nullValue()));
+    assertThat(map.getKey(3), is("c"));
+    assertThat(map.containsValue(1), is(false));
+
+    map.put("b", null);
+
+    assertThat(map.containsKey("b"), is(false));
+    assertThat(map.getKey(2), is(nullValue()));
+  }
+
+  @Test
+  void getKey_identity() {
+    var map = new BidirectionalMap<String, String>(true);
+    var value = new String("x");
+    map.put("a", value);
+
+    assertThat(map.getKey(value), is("a"));
+    assertThat(map.getKey(new String("x")), is(nullValue()));
+    assertThat(map.containsValue(new String("x")), is(true));
+  }
+
+  @Test
+  void getKey_samePut() {
+    var map = new BidirectionalMap<String, Integer>();
+    map.and("a", 1).and("b", 1).and("c", 1);
+
+    // Re-associating the same value SHOULD NOT change the earliest-associated key.
+    map.put("a", 1);
+    map.entrySet().iterator().next().setValue(1);
+
+    assertThat(map.getKey(1), is("a"));
+
+    map.but("a");
+
+    assertThat(map.getKey(1), is("b"));
+  }
+
+  @Test
+  void views() {
+    var map = new BidirectionalMap<String, Integer>();
+    map.and("a", 1).and("b", 2).and("c", 3);
+
+    map.values().remove(2);
+    map.keySet().remove("c");
+    map.entrySet().iterator().next().setValue(10);
+
+    assertThat(map.size(), is(1));
+    assertThat(map.getKey(10), is("a"));
+    assertThat(map.getKey(1), is(nullValue()));
+    assertThat(map.getKey(2), is(nullValue()));
+    assertThat(map.getKey(3), is(nullValue()));
+  }
+}
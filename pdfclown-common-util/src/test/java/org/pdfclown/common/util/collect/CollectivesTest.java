@@ -17,6 +17,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.pdfclown.common.util.__test.BaseTest;
 
@@ -39,6 +42,50 @@ class CollectivesTest extends BaseTest {
     assertThat(obj.get(4), is("B"));
   }
 
+  @Test
+  void cartesianProduct() {
+    List<List<?>> lists = List.of(List.of("A", "B"), List.of(1, 2, 3), List.of('x', 'y'));
+
+    var obj = Collectives.cartesianProduct(lists).toList();
+    assertThat(obj.size(), is(12));
+    assertThat(obj.get(0), is(List.of("A", 1, 'x')));
+    assertThat(obj.get(1), is(List.of("A", 1, 'y')));
+    assertThat(obj.get(2), is(List.of("A", 2, 'x')));
+    assertThat(obj.get(11), is(List.of("B", 3, 'y')));
+
+    /*
+     * Degenerate products.
+     */
+    assertThat(Collectives.cartesianProduct(List.of()).toList(), is(List.of(List.of())));
+    assertThat(Collectives.cartesianProduct(List.of(List.of("A"), List.of())).count(), is(0L));
+  }
+
+  @Test
+  void cartesianProduct_parallel() {
+    List<List<?>> lists = List.of(
+        IntStream.range(0, 7).boxed().toList(),
+        IntStream.range(0, 11).boxed().toList(),
+        IntStream.range(0, 13).boxed().toList(),
+        IntStream.range(0, 17).boxed().toList());
+
+    var expected = Collectives.cartesianProduct(lists).toList();
+    assertThat(expected.size(), is(7 * 11 * 13 * 17));
+    assertThat(Collectives.cartesianProduct(lists).parallel().toList(), is(expected));
+    assertThat(Collectives.cartesianProductList(lists), is(expected));
+    assertThat(Collectives.cartesianProductList(lists).parallelStream().toList(), is(expected));
+    assertThat(Collectives.cartesianProductList(lists).get(1234), is(expected.get(1234)));
+
+    /*
+     * Reused row (each combination consumed before the next one).
+     */
+    assertThat(Collectives.cartesianProduct(lists, true)
+        .map($ -> $.stream().map(String::valueOf).collect(Collectors.joining(",")))
+        .toList(),
+        is(expected.stream()
+            .map($ -> $.stream().map(String::valueOf).collect(Collectors.joining(",")))
+            .toList()));
+  }
+
   @Test
   void place() {
     var obj = new ArrayList<>();
@@ -0,0 +1,208 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ConcurrentDynamicMapTest.java) is part of pdfclown-common-util module in pdfClown
+  Common project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class ConcurrentDynamicMapTest extends BaseTest {
+  /**
+   * Provides the superclasses of a class, counting the requests.
+   */
+  @SuppressWarnings("rawtypes")
+  static class SuperclassProvider extends DynamicMap.DynamicProvider<Class> {
+    final Map<Class, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public Stream<Class> apply(Class type) {
+      counts.computeIfAbsent(type, $ -> new AtomicInteger()).incrementAndGet();
+      return Stream.<Class>iterate(type.getSuperclass(), $ -> $ != null, Class::getSuperclass);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void _main() {
+    var provider = new SuperclassProvider();
+    var classMap = new ConcurrentDynamicMap<Class, String>(provider);
+
+    classMap.put(AbstractMap.class, "map");
+    classMap.put(AbstractList.class, "list");
+
+    assertThat(classMap.get(TreeMap.class), is("map"));
+    assertThat(classMap.get(ArrayList.class), is("list"));
+    assertThat(classMap.get(String.class), is(nullValue()));
+
+    assertThat(classMap.getParentKey(TreeMap.class), is(AbstractMap.class));
+    assertThat(classMap.getParentKey(AbstractMap.class), is(nullValue()));
+    assertThat(classMap.getRootKey(LinkedHashMap.class), is(nullValue()));
+    assertThat(classMap.get(LinkedHashMap.class), is("map"));
+    assertThat(classMap.getParentKey(LinkedHashMap.class), is(AbstractMap.class));
+    assertThat(classMap.getRootKey(LinkedHashMap.class), is(AbstractMap.class));
+    assertThat(classMap.rootKeySet(), containsInAnyOrder(AbstractMap.class, AbstractList.class));
+
+    // Explicit mapping of derived key.
+    classMap.put(TreeMap.class, "tree");
+
+    assertThat(classMap.get(TreeMap.class), is("tree"));
+    assertThat(classMap.getRootKey(TreeMap.class), is(TreeMap.class));
+    assertThat(classMap.rootKeySet(),
+        containsInAnyOrder(AbstractMap.class, AbstractList.class, TreeMap.class));
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void get_concurrent() throws Exception {
+    var provider = new SuperclassProvider();
+    var classMap = new ConcurrentDynamicMap<Class, String>(provider);
+    classMap.put(Object.class, "object");
+    classMap.put(AbstractCollection.class, "collection");
+
+    List<Class> keys = List.of(ArrayList.class, TreeMap.class, HashMap.class, String.class,
+        Integer.class, LinkedHashMap.class, StringBuilder.class, Thread.class);
+    int threadCount = 8;
+    var executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      var start = new CountDownLatch(1);
+      var futures = new ArrayList<Future<?>>();
+      for (int i = 0; i < threadCount; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < 1000; j++) {
+            for (var key : keys) {
+              assertThat(classMap.get(key),
+                  is(Collection.class.isAssignableFrom(key) ? "collection" : "object"));
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (var key : keys) {
+      assertThat("Related keys of " + key + " SHOULD be traversed once",
+          provider.counts.get(key).get(), is(1));
+    }
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void mutations() {
+    var classMap = new ConcurrentDynamicMap<Class, String>(new SuperclassProvider());
+    classMap.put(AbstractMap.class, "map");
+
+    // Derived key, left untouched.
+    assertThat(classMap.get(TreeMap.class), is("map"));
+    assertThat(classMap.putIfAbsent(TreeMap.class, "tree"), is("map"));
+    assertThat(classMap.replace(TreeMap.class, "tree", "map2"), is(false));
+    assertThat(classMap.remove(TreeMap.class, "tree"), is(false));
+    assertThat(classMap.getRootKey(TreeMap.class), is(AbstractMap.class));
+
+    // Derived key, mutated.
+    assertThat(classMap.merge(TreeMap.class, "tree", String::concat), is("maptree"));
+    assertThat(classMap.getRootKey(TreeMap.class), is(TreeMap.class));
+    assertThat(classMap.get(HashMap.class), is("map"));
+    assertThat(classMap.compute(HashMap.class, ($k, $v) -> $v + "hash"), is("maphash"));
+    assertThat(classMap.getRootKey(HashMap.class), is(HashMap.class));
+    assertThat(classMap.get(LinkedHashMap.class), is("maphash"));
+    assertThat(classMap.replace(LinkedHashMap.class, "maphash", "linked"), is(true));
+    assertThat(classMap.getRootKey(LinkedHashMap.class), is(LinkedHashMap.class));
+
+    // Derived key, removed through view.
+    assertThat(classMap.get(ConcurrentHashMap.class), is("map"));
+    classMap.keySet().remove(ConcurrentHashMap.class);
+    assertThat(classMap.getParentKey(ConcurrentHashMap.class), is(nullValue()));
+    assertThat(classMap.getRootKey(ConcurrentHashMap.class), is(nullValue()));
+    assertThat(classMap.rootKeySet(), containsInAnyOrder(AbstractMap.class, TreeMap.class,
+        HashMap.class, LinkedHashMap.class));
+
+    classMap.clear();
+    assertThat(classMap.isEmpty(), is(true));
+    assertThat(classMap.getParentKey(TreeMap.class), is(nullValue()));
+  }
+
+  /**
+   * Removals concurrent to the resolution of the same key MUST NOT break its parent link.
+   */
+  @Test
+  @SuppressWarnings("rawtypes")
+  void remove_concurrent() throws Exception {
+    var classMap = new ConcurrentDynamicMap<Class, String>(new SuperclassProvider());
+    classMap.put(AbstractMap.class, "map");
+
+    int readerCount = 4;
+    var executor = Executors.newFixedThreadPool(readerCount + 1);
+    try {
+      var start = new CountDownLatch(1);
+      var futures = new ArrayList<Future<?>>();
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < 100000; i++) {
+          classMap.remove(TreeMap.class);
+          // `TreeMap` is never explicitly mapped: it is either missing or derived.
+          assertThat(classMap.getRootKey(TreeMap.class) != TreeMap.class, is(true));
+        }
+        return null;
+      }));
+      for (int i = 0; i < readerCount; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < 100000; j++) {
+            classMap.get(TreeMap.class);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(classMap.get(TreeMap.class), is("map"));
+    assertThat(classMap.getRootKey(TreeMap.class), is(AbstractMap.class));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (DoubleRangeTest.java) is part of pdfclown-common-util module in pdfClown Common
+  project <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class DoubleRangeTest extends BaseTest {
+  @Test
+  void atLeast() {
+    var range = DoubleRange.atLeast(1);
+
+    assertThat(range.toString(), is("[1.0,+∞)"));
+    assertThat(range.toRange(), is(Range.atLeast(1d)));
+
+    assertThat(range.contains(Math.nextDown(1d)), is(false));
+    assertThat(range.contains(1), is(true));
+    assertThat(range.contains(Double.POSITIVE_INFINITY), is(true));
+    assertThat(range.contains(Double.NaN), is(false));
+  }
+
+  @Test
+  void empty() {
+    assertThat(DoubleRange.open(1, 1).isEmpty(), is(true));
+    assertThat(DoubleRange.closed(1, 1).isEmpty(), is(false));
+    assertThat(DoubleRange.closed(2, 1).isEmpty(), is(true));
+    assertThat(DoubleRange.greaterThan(Double.POSITIVE_INFINITY).isEmpty(), is(true));
+    assertThat(DoubleRange.greaterThan(Double.POSITIVE_INFINITY)
+        .contains(Double.POSITIVE_INFINITY), is(false));
+  }
+
+  @Test
+  void normal() {
+    assertThat(DoubleRange.closed(0, 1), sameInstance(DoubleRange.normal()));
+    assertThat(DoubleRange.of(Range.normal(Float.class)), sameInstance(DoubleRange.normal()));
+    assertThat(DoubleRange.normal().toRange(), is(Range.normal(Double.class)));
+  }
+
+  @Test
+  void of() {
+    // Mixed number types (like numeric ranges).
+    var range = DoubleRange.of(Range.closed(0, 5));
+
+    assertThat(range.contains(.5), is(true));
+    assertThat(range.contains(5.1), is(false));
+
+    assertThat(DoubleRange.of(Range.lessThan(2f)), is(DoubleRange.lessThan(2)));
+    assertThat(DoubleRange.of(Range.open(null, null)), sameInstance(DoubleRange.all()));
+  }
+
+  @Test
+  void open() {
+    var range = DoubleRange.open(0, 1);
+
+    assertThat(range.toString(), is("(0.0,1.0)"));
+    assertThat(range.toRange(), is(Range.open(0d, 1d)));
+    assertThat(range.isLowerClosed(), is(false));
+    assertThat(range.isUpperClosed(), is(false));
+
+    assertThat(range.contains(0), is(false));
+    assertThat(range.contains(Double.MIN_VALUE), is(true));
+    assertThat(range.contains(Math.nextDown(1d)), is(true));
+    assertThat(range.contains(1), is(false));
+  }
+}
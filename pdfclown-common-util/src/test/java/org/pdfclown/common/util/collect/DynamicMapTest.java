@@ -20,21 +20,25 @@ import static org.pdfclown.common.util.Objects.superTypes;
 import static org.pdfclown.common.util.collect.Comparators.hierarchicalType;
 
 import java.io.Serial;
+import java.lang.ref.WeakReference;
 import java.util.AbstractList;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.pdfclown.common.util.__test.BaseTest;
 import org.pdfclown.common.util.annot.Initializer;
+import org.pdfclown.common.util.collect.Comparators.HierarchicalTypeComparator;
 import org.pdfclown.common.util.collect.Comparators.HierarchicalTypeComparator.Priorities.TypePriorityComparator;
+import org.pdfclown.common.util.collect.DynamicMap.DynamicProvider;
 
 /**
  * @author Stefano Chizzolini
@@ -52,11 +56,16 @@ class DynamicMapTest extends BaseTest {
       private TypePriorityComparator priorities = Comparators.HierarchicalTypeComparator.Priorities
           .explicitPriority();
 
-      private Function<Class, Stream<Class>> base;
+      /**
+       * Related types comparator, based on a snapshot of {@link #priorities}.
+       */
+      private @Nullable HierarchicalTypeComparator comparator;
+      private int comparatorVersion;
+      private Set<Class> keys;
 
       @Override
       public Stream<Class> apply(Class type) {
-        return base.apply(type);
+        return superTypes(type, comparator(), keys, false);
       }
 
       @Override
@@ -68,21 +77,37 @@ class DynamicMapTest extends BaseTest {
 
       @Initializer
       void init(Set<Class> keys) {
-        base = $ -> superTypes($, hierarchicalType()
-            .thenComparing(priorities)
-            .thenComparing(Comparators.HierarchicalTypeComparator.Priorities.interfacePriority())
-            .thenComparing(($1, $2) -> {
-              int ret;
-              var name1 = $1.getName();
-              var name2 = $2.getName();
-
-              // Prioritize library-specific types!
-              if ((ret = libraryPriority(name1) - libraryPriority(name2)) != 0)
-                return ret;
-
-              // Compare arbitrarily (no more relevant aspects to evaluate)!
-              return name1.compareTo(name2);
-            }), keys, false);
+        this.keys = keys;
+      }
+
+      /**
+       * Gets the related types comparator.
+       * <p>
+       * As {@link org.pdfclown.common.util.Objects#superTypes(Class, HierarchicalTypeComparator,
+       * Set, boolean) superTypes(..)} memoizes its results per comparator, the comparator is
+       * reused until {@link #priorities} change, then rebuilt on their new snapshot.
+       * </p>
+       */
+      private HierarchicalTypeComparator comparator() {
+        if (comparator == null || comparatorVersion != priorities.getVersion()) {
+          comparatorVersion = priorities.getVersion();
+          comparator = hierarchicalType()
+              .thenComparing(priorities.clone())
+              .thenComparing(Comparators.HierarchicalTypeComparator.Priorities.interfacePriority())
+              .thenComparing(($1, $2) -> {
+                int ret;
+                var name1 = $1.getName();
+                var name2 = $2.getName();
+
+                // Prioritize library-specific types!
+                if ((ret = libraryPriority(name1) - libraryPriority(name2)) != 0)
+                  return ret;
+
+                // Compare arbitrarily (no more relevant aspects to evaluate)!
+                return name1.compareTo(name2);
+              });
+        }
+        return comparator;
       }
     }
 
@@ -130,6 +155,17 @@ class DynamicMapTest extends BaseTest {
     }
   }
 
+  /**
+   * Provides the ancestors of a path (that is, its prefixes, longest first).
+   */
+  static class PathProvider extends DynamicProvider<List<String>> {
+    @Override
+    public Stream<List<String>> apply(List<String> path) {
+      return IntStream.iterate(path.size() - 1, $ -> $ > 0, $ -> $ - 1)
+          .mapToObj($ -> List.copyOf(path.subList(0, $)));
+    }
+  }
+
   @Test
   void _main() {
     var classMap = new ClassMap();
@@ -249,4 +285,107 @@ class DynamicMapTest extends BaseTest {
     assertThat(classMapClone.rootKeySet(),
         containsInAnyOrder(String.class, Map.class, Collection.class));
   }
+
+  @Test
+  void get_capped() {
+    var map = new DynamicMap<List<String>, String>(new PathProvider(), 2);
+    map.put(List.of("a"), "A");
+
+    assertThat(map.get(List.of("a", "b")), is("A"));
+    assertThat(map.get(List.of("a", "c")), is("A"));
+    assertThat(map.get(List.of("a", "b", "x")), is("A"));
+
+    // Least-recently-used dynamic entry `a/c` discarded.
+    assertThat(map.getParentKey(List.of("a", "c")), is(nullValue()));
+    assertThat(map.getParentKey(List.of("a", "b")), is(List.of("a")));
+    assertThat(map.getParentKey(List.of("a", "b", "x")), is(List.of("a", "b")));
+    assertThat(map.getRootKey(List.of("a", "b", "x")), is(List.of("a")));
+    assertThat(map.size(), is(1));
+    assertThat(map.rootKeySet(), containsInAnyOrder(List.of("a")));
+
+    // Discarded dynamic entry SHOULD be resolved again.
+    assertThat(map.get(List.of("a", "c")), is("A"));
+    assertThat(map.getStats(), is(new DynamicMap.Stats(0, 4, 0)));
+
+    // User-defined entry SHOULD override the dynamic one.
+    map.put(List.of("a", "c"), "C");
+
+    assertThat(map.get(List.of("a", "c")), is("C"));
+    assertThat(map.getRootKey(List.of("a", "c")), is(List.of("a", "c")));
+    assertThat(map.rootKeySet(), containsInAnyOrder(List.of("a"), List.of("a", "c")));
+
+    // Any user-defined write SHOULD override the dynamic entry.
+    assertThat(map.get(List.of("a", "b")), is("A"));
+    assertThat(map.putIfAbsent(List.of("a", "b"), "B"), is(nullValue()));
+    assertThat(map.getRootKey(List.of("a", "b")), is(List.of("a", "b")));
+
+    assertThat(map.get(List.of("a", "d")), is("A"));
+    assertThat(map.computeIfAbsent(List.of("a", "d"), $ -> "D"), is("D"));
+    assertThat(map.getParentKey(List.of("a", "d")), is(nullValue()));
+
+    assertThat(map.get(List.of("a", "e")), is("A"));
+    assertThat(map.merge(List.of("a", "e"), "E", String::concat), is("E"));
+    assertThat(map.getRootKey(List.of("a", "e")), is(List.of("a", "e")));
+  }
+
+  @Test
+  void get_weak() throws InterruptedException {
+    var map = new DynamicMap<List<String>, String>(new PathProvider(), true);
+    map.put(List.of("a"), "A");
+    var set = new DynamicSet<>(new DynamicMap<List<String>, Object>(new PathProvider(), true));
+    set.add(List.of("a"));
+
+    List<String> key = new ArrayList<>(List.of("a", "b"));
+    assertThat(map.get(key), is("A"));
+    assertThat(map.getRootKey(key), is(List.of("a")));
+    assertThat(set.contains(key), is(true));
+    assertThat(set.getParent(key), is(List.of("a")));
+    assertThat(set.rootSet(), containsInAnyOrder(List.of("a")));
+
+    // Dynamic entries SHOULD NOT retain their keys.
+    var keyRef = new WeakReference<>(key);
+    key = null;
+    for (int i = 0; i < 50 && keyRef.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(keyRef.get(), is(nullValue()));
+    assertThat(map.get(List.of("a")), is("A"));
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void get_stats() {
+    var provider = new ConcurrentDynamicMapTest.SuperclassProvider();
+    var classMap = new DynamicMap<Class, String>(provider);
+    classMap.put(AbstractMap.class, "map");
+
+    assertThat(classMap.get(TreeMap.class), is("map"));
+    assertThat(classMap.get(TreeMap.class), is("map"));
+    assertThat(classMap.get(String.class), is(nullValue()));
+    assertThat(classMap.get(String.class), is(nullValue()));
+    assertThat(classMap.get(String.class), is(nullValue()));
+
+    assertThat("Miss SHOULD be resolved once", provider.counts.get(String.class).get(), is(1));
+    assertThat(classMap.getStats(), is(new DynamicMap.Stats(1, 1, 3)));
+
+    // Dynamic entry SHOULD NOT invalidate remembered misses.
+    assertThat(classMap.get(HashMap.class), is("map"));
+    assertThat(classMap.get(String.class), is(nullValue()));
+
+    assertThat(provider.counts.get(String.class).get(), is(1));
+    assertThat(classMap.getStats(), is(new DynamicMap.Stats(1, 2, 4)));
+
+    // User-defined entry SHOULD invalidate remembered misses.
+    classMap.put(Object.class, "object");
+
+    assertThat(classMap.get(String.class), is("object"));
+    assertThat(provider.counts.get(String.class).get(), is(2));
+    assertThat(classMap.getStats(), is(new DynamicMap.Stats(1, 3, 4)));
+
+    classMap.resetStats();
+
+    assertThat(classMap.getStats(), is(new DynamicMap.Stats(0, 0, 0)));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (HashDequeTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class HashDequeTest extends BaseTest {
+  @Test
+  void _main() {
+    var deque = new HashDeque<String>(false, List.of("b", "c", "b"));
+
+    assertThat(deque, contains("b", "c"));
+    assertThat("Duplicate SHOULD NOT be inserted", deque.offerFirst("c"), is(false));
+
+    deque.addFirst("a");
+    deque.addLast("d");
+
+    assertThat(deque, contains("a", "b", "c", "d"));
+    assertThat(deque.peekFirst(), is("a"));
+    assertThat(deque.peekLast(), is("d"));
+    assertThat(deque.contains("c"), is(true));
+
+    // Arbitrary removal.
+    assertThat(deque.remove("c"), is(true));
+    assertThat(deque.contains("c"), is(false));
+    assertThat(deque, contains("a", "b", "d"));
+
+    // Untracked element SHOULD be reinserted after removal.
+    assertThat(deque.add("c"), is(true));
+    assertThat(deque.pollFirst(), is("a"));
+    assertThat(deque.pollLast(), is("c"));
+    assertThat(deque, contains("b", "d"));
+    assertThat(deque.size(), is(2));
+
+    assertThrows(NullPointerException.class, () -> deque.add(null));
+  }
+
+  @Test
+  void clear() {
+    var deque = new HashDeque<String>(true, List.of("a", "b"));
+
+    deque.clear();
+
+    assertThat(deque.isEmpty(), is(true));
+    assertThat("Tracked element SHOULD NOT be reinserted", deque.add("a"), is(false));
+
+    deque.clear(true);
+
+    assertThat("Reset element SHOULD be reinserted", deque.add("a"), is(true));
+    assertThat(deque, contains("a"));
+  }
+
+  @Test
+  void iterator() {
+    var deque = new HashDeque<Integer>(false, IntStream.range(0, 10).boxed().toList());
+
+    assertThat(deque.removeIf($ -> $ % 2 == 0), is(true));
+    assertThat(deque, contains(1, 3, 5, 7, 9));
+
+    var descending = new ArrayList<Integer>();
+    for (var itr = deque.descendingIterator(); itr.hasNext();) {
+      int e = itr.next();
+      descending.add(e);
+      if (e == 5) {
+        itr.remove();
+      }
+    }
+    assertThat(descending, contains(9, 7, 5, 3, 1));
+    assertThat(deque, contains(1, 3, 7, 9));
+
+    assertThat(deque.stream().map(String::valueOf).collect(Collectors.joining(",")),
+        is("1,3,7,9"));
+
+    var itr = deque.iterator();
+    deque.remove(itr.next());
+    assertThrows(ConcurrentModificationException.class, itr::next);
+  }
+
+  @Test
+  void tracked() {
+    var deque = new HashDeque<Integer>(true);
+
+    // Enough elements to force rehashing of both live and tracked entries.
+    for (int i = 0; i < 1000; i++) {
+      deque.add(i);
+      if (i % 2 == 0) {
+        deque.pop();
+      }
+    }
+
+    assertThat(deque.size(), is(500));
+    assertThat(deque.peekFirst(), is(500));
+    for (int i = 0; i < 1000; i++) {
+      assertThat("Tracked element SHOULD NOT be reinserted", deque.offerFirst(i), is(false));
+      assertThat(deque.contains(i), is(i >= 500));
+    }
+  }
+
+  @Test
+  void tracked_probabilistic() {
+    var deque = new HashDeque<Integer>(1000, .01);
+
+    assertThat(deque.isTracked(), is(true));
+
+    for (int i = 0; i < 1000; i++) {
+      deque.add(i);
+      if (i % 2 == 0) {
+        deque.pop();
+      }
+    }
+
+    assertThat(deque.size(), is(500));
+    for (int i = 0; i < 1000; i++) {
+      assertThat("Tracked element SHOULD NOT be reinserted", deque.offerFirst(i), is(false));
+      assertThat(deque.contains(i), is(i >= 500));
+    }
+
+    // False positives SHOULD stay near the configured rate.
+    int rejectedCount = 0;
+    for (int i = 1000; i < 11000; i++) {
+      if (!deque.add(i)) {
+        rejectedCount++;
+      }
+    }
+    assertThat(rejectedCount < 300, is(true));
+
+    deque.clear(true);
+
+    assertThat("Reset element SHOULD be reinserted", deque.add(0), is(true));
+
+    assertThrows(IllegalArgumentException.class, () -> new HashDeque<Integer>(1000, 1));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (IntRangeTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class IntRangeTest extends BaseTest {
+  @Test
+  void closed() {
+    var range = IntRange.closed(1, 3);
+
+    assertThat(range.getMin(), is(1));
+    assertThat(range.getMax(), is(3));
+    assertThat(range.toString(), is("[1,3]"));
+
+    assertThat(range.contains(0), is(false));
+    assertThat(range.contains(1), is(true));
+    assertThat(range.contains(3), is(true));
+    assertThat(range.contains(4), is(false));
+  }
+
+  @Test
+  void empty() {
+    assertThat(IntRange.open(1, 2).isEmpty(), is(true));
+    assertThat(IntRange.open(1, 2).contains(1), is(false));
+    assertThat(IntRange.greaterThan(Integer.MAX_VALUE).isEmpty(), is(true));
+    assertThat(IntRange.lessThan(Integer.MIN_VALUE).isEmpty(), is(true));
+    assertThat(IntRange.closed(3, 1).isEmpty(), is(true));
+    assertThat(IntRange.closed(3, 1).toRange().contains(2), is(false));
+  }
+
+  @Test
+  void normal() {
+    assertThat(IntRange.closed(0, 1), sameInstance(IntRange.normal()));
+    assertThat(IntRange.normal().toRange(), sameInstance(Range.normal(Integer.class)));
+  }
+
+  @Test
+  void of() {
+    assertThat(IntRange.of(Range.open(0, 5)), is(IntRange.closed(1, 4)));
+    assertThat(IntRange.of(Range.atLeast(3)), is(IntRange.atLeast(3)));
+    assertThat(IntRange.of(Range.lessThan(3)), is(IntRange.atMost(2)));
+    assertThat(IntRange.of(Range.open(null, null)), sameInstance(IntRange.all()));
+  }
+
+  @Test
+  void open() {
+    var range = IntRange.open(1, 3);
+
+    assertThat(range, is(IntRange.closed(2, 2)));
+    assertThat(range.toString(), is("[2,2]"));
+
+    assertThat(range.contains(1), is(false));
+    assertThat(range.contains(2), is(true));
+    assertThat(range.contains(3), is(false));
+  }
+
+  @Test
+  void toRange() {
+    assertThat(IntRange.atLeast(3).toRange(), is(Range.atLeast(3)));
+    assertThat(IntRange.atMost(3).toRange(), is(Range.atMost(3)));
+    assertThat(IntRange.all().toString(), is("(-∞,+∞)"));
+
+    // Unbounded endpoint includes the extreme value.
+    assertThat(IntRange.atLeast(3).contains(Integer.MAX_VALUE), is(true));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (LongRangeTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class LongRangeTest extends BaseTest {
+  @Test
+  void closed() {
+    var range = LongRange.closed(1L, 3L);
+
+    assertThat(range.getMin(), is(1L));
+    assertThat(range.getMax(), is(3L));
+    assertThat(range.toString(), is("[1,3]"));
+
+    assertThat(range.contains(0L), is(false));
+    assertThat(range.contains(1L), is(true));
+    assertThat(range.contains(3L), is(true));
+    assertThat(range.contains(4L), is(false));
+  }
+
+  @Test
+  void empty() {
+    assertThat(LongRange.open(1L, 2L).isEmpty(), is(true));
+    assertThat(LongRange.open(1L, 2L).contains(1L), is(false));
+    assertThat(LongRange.greaterThan(Long.MAX_VALUE).isEmpty(), is(true));
+    assertThat(LongRange.lessThan(Long.MIN_VALUE).isEmpty(), is(true));
+    assertThat(LongRange.closed(3L, 1L).isEmpty(), is(true));
+    assertThat(LongRange.closed(3L, 1L).toRange().contains(2L), is(false));
+  }
+
+  @Test
+  void normal() {
+    assertThat(LongRange.closed(0L, 1L), sameInstance(LongRange.normal()));
+    assertThat(LongRange.normal().toRange(), sameInstance(Range.normal(Long.class)));
+  }
+
+  @Test
+  void of() {
+    assertThat(LongRange.of(Range.open(0L, 5L)), is(LongRange.closed(1L, 4L)));
+    assertThat(LongRange.of(Range.atLeast(3L)), is(LongRange.atLeast(3L)));
+    assertThat(LongRange.of(Range.lessThan(3L)), is(LongRange.atMost(2)));
+    assertThat(LongRange.of(Range.open(null, null)), sameInstance(LongRange.all()));
+  }
+
+  @Test
+  void open() {
+    var range = LongRange.open(1L, 3L);
+
+    assertThat(range, is(LongRange.closed(2L, 2L)));
+    assertThat(range.toString(), is("[2,2]"));
+
+    assertThat(range.contains(1L), is(false));
+    assertThat(range.contains(2L), is(true));
+    assertThat(range.contains(3L), is(false));
+  }
+
+  @Test
+  void toRange() {
+    assertThat(LongRange.atLeast(3L).toRange(), is(Range.atLeast(3L)));
+    assertThat(LongRange.atMost(3L).toRange(), is(Range.atMost(3L)));
+    assertThat(LongRange.all().toString(), is("(-∞,+∞)"));
+
+    // Unbounded endpoint includes the extreme value.
+    assertThat(LongRange.atLeast(3L).contains(Long.MAX_VALUE), is(true));
+  }
+}
@@ -0,0 +1,169 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (RangeMapTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.collect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class RangeMapTest extends BaseTest {
+  @Test
+  void builder() {
+    var map = RangeMap.<Integer, String>builder()
+        .put(Range.closed(1, 5), "a")
+        .put(Range.closed(1, 5), "b")
+        .put(Range.open(3, 3), "empty")
+        .build();
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get(3), contains("a", "b"));
+  }
+
+  @Test
+  void get_comparator() {
+    var map = RangeMap.<String, Integer>builder(Comparator.reverseOrder())
+        .put(Range.closed("z", "m"), 1)
+        .put(Range.open("m", "a"), 2)
+        .build();
+
+    assertThat(map.isNumeric(), is(false));
+    assertThat(map.get("q"), contains(1));
+    assertThat(map.get("m"), contains(1));
+    assertThat(map.get("b"), contains(2));
+    assertThat(map.get("a"), is(empty()));
+    assertThrows(IllegalStateException.class, () -> map.getDouble(1d));
+  }
+
+  @Test
+  void get_naturalOrder() {
+    var map = RangeMap.<String, Integer>builder()
+        .put(Range.closed("b", "d"), 1)
+        .put(Range.of(Range.Endpoint.of("d", true), Range.Endpoint.of("f", false)), 2)
+        .put(Range.greaterThan("e"), 3)
+        .build();
+
+    assertThat(map.isNumeric(), is(false));
+    assertThat(map.get("a"), is(empty()));
+    assertThat(map.get("b"), contains(1));
+    assertThat(map.get("c"), contains(1));
+    assertThat(map.get("d"), contains(1, 2));
+    assertThat(map.get("e"), contains(2));
+    assertThat(map.get("ee"), contains(2, 3));
+    assertThat(map.get("f"), contains(3));
+    assertThat(map.get("zzz"), contains(3));
+  }
+
+  @Test
+  void get_numeric() {
+    var map = RangeMap.<Number, String>builder()
+        .put(Range.<Number>closed(1, 10), "a")
+        .put(Range.<Number>open(5L, 20L), "b")
+        .put(Range.<Number>atMost(0.5), "c")
+        .build();
+
+    assertThat(map.isNumeric(), is(true));
+    assertThat(map.getDouble(-100d), contains("c"));
+    assertThat(map.getDouble(0.5), contains("c"));
+    assertThat(map.getDouble(1d), contains("a"));
+    assertThat(map.getDouble(5d), contains("a"));
+    assertThat(map.getDouble(5.5), contains("a", "b"));
+    assertThat(map.getDouble(10d), contains("a", "b"));
+    assertThat(map.getDouble(20d), is(empty()));
+    assertThat(map.getDouble(Double.NaN), is(empty()));
+    assertThat(map.get((Number) 7), contains("a", "b"));
+  }
+
+  @Test
+  void get_numericExact() {
+    long big = 1L << 53;
+    var map = RangeMap.<Number, String>builder()
+        .put(Range.<Number>closed(big + 1, big + 1), "a")
+        .put(Range.<Number>greaterThan(BigInteger.valueOf(big + 2)), "b")
+        .put(Range.<Number>atMost(new BigDecimal("0.1")), "c")
+        .build();
+
+    assertThat(map.isNumeric(), is(true));
+    assertThat(map.get((Number) big), is(empty()));
+    assertThat(map.get((Number) (big + 1)), contains("a"));
+    assertThat(map.get((Number) (big + 2)), is(empty()));
+    assertThat(map.get((Number) (big + 3)), contains("b"));
+    assertThat(map.getDouble(0.1), is(empty()));
+    assertThat(map.get((Number) 0.1f), is(empty()));
+    assertThat(map.getDouble(-1d), contains("c"));
+    assertThat(map.getDouble(Double.NaN), is(empty()));
+  }
+
+  @Test
+  void get_unbounded() {
+    var map = RangeMap.<String, Integer>builder()
+        .put(Range.<String>closed(null, null), 1)
+        .put(Range.<String>open(null, null), 2)
+        .build();
+
+    assertThat(map.get("a"), contains(1, 2));
+    assertThat(map.getDouble(1d), contains(1, 2));
+  }
+
+  @Test
+  void getOverlapping() {
+    var map = RangeMap.<Integer, String>builder()
+        .put(Range.closed(0, 2), "a")
+        .put(Range.closed(3, 6), "b")
+        .put(Range.closed(5, 9), "c")
+        .put(Range.atLeast(20), "d")
+        .build();
+
+    assertThat(map.getOverlapping(Range.closed(2, 3)), contains("a", "b"));
+    assertThat(map.getOverlapping(Range.open(2, 3)), is(empty()));
+    assertThat(map.getOverlapping(Range.closed(6, 100)), contains("b", "c", "d"));
+    assertThat(map.getOverlapping(Range.lessThan(0)), is(empty()));
+  }
+
+  @Test
+  void rangeSet() {
+    var set = RangeSet.of(List.of(Range.closed(10, 20), Range.closed(1, 3)));
+
+    assertThat(set.ranges(), contains(Range.closed(1, 3), Range.closed(10, 20)));
+    assertThat(set.containsDouble(2d), is(true));
+    assertThat(set.containsDouble(5d), is(false));
+    assertThat(set.getDouble(15d), contains(Range.closed(10, 20)));
+  }
+
+  @Test
+  void rangeSet_exact() {
+    long big = 1L << 53;
+    var longSet = RangeSet.of(List.of(Range.closed(big + 1, big + 1)));
+
+    assertThat(longSet.contains(big), is(false));
+    assertThat(longSet.contains(big + 1), is(true));
+    assertThat(longSet.contains(big + 2), is(false));
+
+    var charSet = RangeSet.of(List.of(Range.closed('a', 'c'), Range.closed('b', 'z')));
+
+    assertThat(charSet.isNumeric(), is(false));
+    assertThat(charSet.contains('b'), is(true));
+    assertThat(charSet.contains('A'), is(false));
+  }
+}
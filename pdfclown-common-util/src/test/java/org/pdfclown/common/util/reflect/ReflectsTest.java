@@ -0,0 +1,117 @@
+/*
+  SPDX-FileCopyrightText: 2025-2026 Stefano Chizzolini and contributors
+
+  SPDX-License-Identifier: LGPL-3.0-only
+
+  This file (ReflectsTest.java) is part of pdfclown-common-util module in pdfClown Common project
+  <https://github.com/pdfclown/pdfclown-common>
+
+  DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER. If you reuse (entirely or partially)
+  this file, you MUST add your own copyright notice in a separate comment block above this file
+  header, listing the main changes you applied to the original source.
+ */
+package org.pdfclown.common.util.reflect;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.pdfclown.common.util.__test.BaseTest;
+
+/**
+ * @author Stefano Chizzolini
+ */
+class ReflectsTest extends BaseTest {
+  public static class Sample {
+    public static String greet(String name) {
+      return "Hello, " + name;
+    }
+
+    private final int base;
+
+    public Sample() {
+      this(0);
+    }
+
+    public Sample(int base) {
+      this.base = base;
+    }
+
+    public void fail() {
+      throw new IllegalStateException("FAILED");
+    }
+
+    public String join(String... items) {
+      return String.join("+", items);
+    }
+
+    public int sum(int value) {
+      return base + value;
+    }
+  }
+
+  @Test
+  void create() {
+    assertThat(Reflects.create(Sample.class).sum(1), is(1));
+    assertThat(Reflects.create(Sample.class, new Class<?>[] { int.class }, new Object[] { 10 })
+        .sum(1), is(11));
+    assertThat(Reflects.tryCreate(Sample.class, new Class<?>[] { String.class },
+        new Object[] { "10" }), is(nullValue()));
+  }
+
+  @Test
+  void get() {
+    var obj = new Sample(10);
+
+    assertThat(Reflects.get(obj, "sum", new Class<?>[] { int.class }, new Object[] { 5 }),
+        is(15));
+    assertThat(Reflects.get(Sample.class, "greet", new Class<?>[] { String.class },
+        new Object[] { "World" }), is("Hello, World"));
+    assertThat(Reflects.get(obj, "join", new Class<?>[] { String[].class },
+        new Object[] { new String[] { "a", "b" } }), is("a+b"));
+  }
+
+  @Test
+  void get_failure() {
+    var obj = new Sample();
+
+    var ex = assertThrows(RuntimeException.class, () -> Reflects.call(obj, "fail"));
+    assertThat(ex.getCause(), is(instanceOf(IllegalStateException.class)));
+
+    assertThat(Reflects.tryCall(obj, "undefined"), is(false));
+    assertThat(Reflects.tryGet(obj, "sum", new Class<?>[] { long.class }, new Object[] { 5L }),
+        is(nullValue()));
+
+    // Cached resolution failure SHOULD be reported through a new exception each time.
+    var ex1 = assertThrows(RuntimeException.class, () -> Reflects.call(obj, "undefined"));
+    var ex2 = assertThrows(RuntimeException.class, () -> Reflects.call(obj, "undefined"));
+    assertThat(ex1.getCause(), is(instanceOf(NoSuchMethodException.class)));
+    assertThat(ex2.getCause(), is(instanceOf(NoSuchMethodException.class)));
+    assertThat(ex2.getCause(), is(not(sameInstance(ex1.getCause()))));
+    assertThat(ex2.getCause().getMessage(), is(ex1.getCause().getMessage()));
+  }
+
+  @Test
+  void stats() {
+    var obj = new Sample(1);
+
+    Reflects.resetStats();
+    for (int i = 0; i < 3; i++) {
+      Reflects.get(obj, "sum", new Class<?>[] { int.class }, new Object[] { i });
+      Reflects.tryCall(obj, "undefined");
+    }
+
+    /*
+     * NOTE: Resolution is cached per type, so `sum(int)` may have already been resolved by other
+     * tests.
+     */
+    var stats = Reflects.getStats();
+    assertThat(stats.hitCount() + stats.missCount(), is(6L));
+    assertThat(stats.hitCount() >= 4, is(true));
+  }
+}